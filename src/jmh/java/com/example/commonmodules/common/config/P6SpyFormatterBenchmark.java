@@ -0,0 +1,118 @@
+package com.example.commonmodules.common.config;
+
+import com.example.commonmodules.common.enums.common.SqlFormatStyle;
+import com.p6spy.engine.logging.Category;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * P6Spy SQL 로그 포맷 비용 측정 (statement 1건당)
+ * - baseline  : 변경 전 방식 (매번 Hibernate formatter + toLowerCase/trim + String.format)
+ * - formatted : P6SpyFormatterConfig (formatStyle / formatCacheSize 별)
+ * - 측정 시 prepared SQL 형태 3가지를 바인딩 값만 바꿔 번갈아 사용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class P6SpyFormatterBenchmark {
+
+    private static final String STATEMENT = Category.STATEMENT.getName();
+
+    private static final String[] PREPARED = {
+            "select s1_0.sample_sn, s1_0.title, s1_0.content, s1_0.created_date from sample s1_0 "
+                    + "left join sample_file f1_0 on s1_0.sample_sn = f1_0.sample_sn where s1_0.use_yn = ? and s1_0.sample_sn > ? "
+                    + "order by s1_0.created_date desc, s1_0.sample_sn desc limit ?",
+            "insert into sample (title, content, use_yn, created_date) values (?, ?, ?, ?)",
+            "update sample set title = ?, content = ? where sample_sn = ?"
+    };
+
+    private static final String[][] VALUES = {
+            {"'Y'", "%d", "21"},
+            {"'title %d'", "'content'", "'Y'", "'2024-01-01T10:00:00'"},
+            {"'title %d'", "'content'", "%d"}
+    };
+
+    private long sequence;
+
+    /**
+     * P6SpyFormatterConfig 설정별 상태 (formatted 벤치마크에서만 사용)
+     */
+    @State(Scope.Benchmark)
+    public static class Formatter {
+
+        @Param({"PRETTY", "COMPACT"})
+        private SqlFormatStyle formatStyle;
+
+        @Param({"0", "1024"})
+        private int formatCacheSize;
+
+        private P6SpyFormatterConfig formatter;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            SqlLogConfig sqlLogConfig = new SqlLogConfig();
+            sqlLogConfig.setFormatStyle(formatStyle);
+            sqlLogConfig.setFormatCacheSize(formatCacheSize);
+
+            formatter = new P6SpyFormatterConfig();
+            ReflectionTestUtils.setField(formatter, "sqlLogConfig", sqlLogConfig);
+            formatter.init();
+        }
+    }
+
+    @Benchmark
+    public String baseline() {
+        int shape = (int) (sequence % PREPARED.length);
+        String sql = bind(shape, sequence++);
+
+        String trimmedSql = sql.trim().toLowerCase(Locale.ROOT);
+        String formattedSql = trimmedSql.startsWith("create") || trimmedSql.startsWith("alter") || trimmedSql.startsWith("comment")
+                ? FormatStyle.DDL.getFormatter().format(sql)
+                : FormatStyle.BASIC.getFormatter().format(sql);
+        return String.format("[%s] | %d ms | %s", STATEMENT, 3L, formattedSql);
+    }
+
+    @Benchmark
+    public String formatted(Formatter state) {
+        int shape = (int) (sequence % PREPARED.length);
+        String sql = bind(shape, sequence++);
+        return state.formatter.formatMessage(1, "", 3L, STATEMENT, PREPARED[shape], sql, "");
+    }
+
+    /**
+     * prepared SQL 의 ? 에 바인딩 값을 채운 실행 SQL 생성 (측정 대상 모두 같은 비용으로 포함)
+     */
+    private static String bind(int shape, long sequence) {
+        String prepared = PREPARED[shape];
+        StringBuilder sb = new StringBuilder(prepared.length() + 64);
+        int valueIndex = 0;
+        for (int i = 0; i < prepared.length(); i++) {
+            char c = prepared.charAt(i);
+            if (c == '?') {
+                String value = VALUES[shape][valueIndex++];
+                sb.append(value.contains("%d") ? value.replace("%d", Long.toString(sequence)) : value);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
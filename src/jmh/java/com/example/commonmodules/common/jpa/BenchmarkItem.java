@@ -0,0 +1,49 @@
+package com.example.commonmodules.common.jpa;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 벤치마크 전용 엔티티 (H2)
+ * - SEQUENCE 전략이므로 Hibernate insert batch 대상
+ */
+@Entity
+@Table(name = "benchmark_item", indexes = @Index(columnList = "createdAt, id"))
+public class BenchmarkItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benchmark_item_seq")
+    @SequenceGenerator(name = "benchmark_item_seq", allocationSize = 500)
+    private Long id;
+
+    private String title;
+
+    private LocalDateTime createdAt;
+
+    protected BenchmarkItem() {
+    }
+
+    public BenchmarkItem(String title, LocalDateTime createdAt) {
+        this.title = title;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.commonmodules.common.jpa;
+
+import com.example.commonmodules.common.config.JpaBatchConfig;
+import com.example.commonmodules.common.config.QuerydslConfig;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+
+import java.util.UUID;
+
+/**
+ * JPA 벤치마크용 애플리케이션 (H2 메모리 DB + BenchmarkItem)
+ * - 공통 모듈 중 QueryDSL / JPA batch 관련 빈만 등록
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(basePackageClasses = BenchmarkItem.class)
+@Import({QuerydslConfig.class, JpaBatchConfig.class, JpaBatchWriter.class})
+public class BenchmarkJpaApplication {
+
+    /**
+     * 컨텍스트 시작 (호출할 때마다 새 메모리 DB 사용)
+     *
+     * @param properties 추가 설정 (ex. jpa.batch.enabled=true)
+     * @return
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(BenchmarkJpaApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.open-in-view=false",
+                        "decorator.datasource.enabled=false",   // P6Spy SQL 로그 제외
+                        "logging.level.root=WARN")
+                .properties(properties)
+                .run();
+    }
+}
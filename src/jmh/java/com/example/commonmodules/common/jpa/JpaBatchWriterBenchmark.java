@@ -0,0 +1,111 @@
+package com.example.commonmodules.common.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 등록 방식별 비용 측정 (H2 메모리 DB)
+ * - persistEach : 한 트랜잭션에서 persist 만 반복 (영속성 컨텍스트가 계속 커짐)
+ * - persistAll  : JpaBatchWriter.persistAll (jpa.batch.size 건마다 flush 후 detach)
+ * - jdbcBatch   : JpaBatchWriter.batchUpdate (JdbcTemplate batch)
+ * - hibernateBatch 파라미터로 jpa.batch.enabled(Hibernate JDBC batch 설정) 적용 여부 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JpaBatchWriterBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    @Param({"false", "true"})
+    private boolean hibernateBatch;
+
+    private ConfigurableApplicationContext context;
+    private JpaBatchWriter jpaBatchWriter;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkJpaApplication.start("jpa.batch.enabled=" + hibernateBatch);
+        jpaBatchWriter = context.getBean(JpaBatchWriter.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("truncate table benchmark_item");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int persistEach() {
+        List<BenchmarkItem> items = newItems();
+        return transactionTemplate.execute(status -> {
+            items.forEach(entityManager::persist);
+            entityManager.flush();
+            return items.size();
+        });
+    }
+
+    @Benchmark
+    public int persistAll() {
+        return jpaBatchWriter.persistAll(newItems());
+    }
+
+    @Benchmark
+    public long jdbcBatch() {
+        List<BenchmarkItem> items = newItems();
+        return jpaBatchWriter.batchUpdate(
+                "insert into benchmark_item (id, title, created_at) values (next value for benchmark_item_seq, ?, ?)",
+                items,
+                (ps, item) -> {
+                    ps.setString(1, item.getTitle());
+                    ps.setTimestamp(2, Timestamp.valueOf(item.getCreatedAt()));
+                });
+    }
+
+    private List<BenchmarkItem> newItems() {
+        LocalDateTime now = LocalDateTime.now();
+        List<BenchmarkItem> items = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            items.add(new BenchmarkItem("title-" + i, now.minusSeconds(i)));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.commonmodules.common.utils;
+
+import com.example.commonmodules.common.enums.file.UploadFileType.FileExtType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 내용(magic byte) 검사 비용 측정
+ * - matchesFile      : 디스크 파일 앞부분만 읽어 검사 (파일 크기와 무관해야 함)
+ * - matchesMultipart : 메모리 part(MockMultipartFile) 검사
+ * - readAllBytes     : 비교용, 파일 전체를 읽은 뒤 검사하는 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileSignatureMatcherBenchmark {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A};
+
+    @Param({"4096", "1048576", "67108864"})
+    private int fileSize;
+
+    private Path path;
+    private MockMultipartFile file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] content = new byte[fileSize];
+        System.arraycopy(PNG_SIGNATURE, 0, content, 0, PNG_SIGNATURE.length);
+
+        path = Files.createTempFile("signature-bench", ".png");
+        Files.write(path, content);
+        file = new MockMultipartFile("file", "bench.png", "image/png", content);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public boolean matchesFile() throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return FileSignatureMatcher.matches(inputStream, FileExtType.PNG);
+        }
+    }
+
+    @Benchmark
+    public boolean matchesMultipart() throws IOException {
+        return FileSignatureMatcher.matches(file, FileExtType.PNG);
+    }
+
+    @Benchmark
+    public boolean readAllBytes() throws IOException {
+        byte[] content = Files.readAllBytes(path);
+        return FileSignatureMatcher.matches(content, content.length, FileExtType.PNG);
+    }
+}
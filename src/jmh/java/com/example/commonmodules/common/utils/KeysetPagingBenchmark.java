@@ -0,0 +1,105 @@
+package com.example.commonmodules.common.utils;
+
+import com.example.commonmodules.common.dto.KeysetSlice;
+import com.example.commonmodules.common.jpa.BenchmarkItem;
+import com.example.commonmodules.common.jpa.BenchmarkJpaApplication;
+import com.example.commonmodules.common.utils.QueryDslUtils.SeekKey;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * offset 페이징(fetchSlice)과 keyset 페이징(fetchKeyset)의 페이지 깊이별 조회 비용 비교 (H2 메모리 DB)
+ * - (createdAt desc, id desc) 정렬, 같은 순서의 복합 인덱스 사용
+ * - Q 클래스 대신 PathBuilder 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeysetPagingBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final PathBuilder<BenchmarkItem> ITEM = new PathBuilder<>(BenchmarkItem.class, "benchmarkItem");
+    private static final DateTimePath<LocalDateTime> CREATED_AT = ITEM.getDateTime("createdAt", LocalDateTime.class);
+    private static final NumberPath<Long> ID = ITEM.getNumber("id", Long.class);
+    private static final List<SeekKey<BenchmarkItem, ?>> SEEK_KEYS = List.of(
+            SeekKey.desc(CREATED_AT, BenchmarkItem::getCreatedAt),
+            SeekKey.desc(ID, BenchmarkItem::getId));
+
+    @Param({"1", "100", "4000"})
+    private int page;
+
+    private ConfigurableApplicationContext context;
+    private JPAQueryFactory queryFactory;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkJpaApplication.start();
+        queryFactory = context.getBean(JPAQueryFactory.class);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{"title-" + i, Timestamp.valueOf(now.minusSeconds(i / 2))});   // 같은 createdAt 2건씩
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "insert into benchmark_item (id, title, created_at) values (next value for benchmark_item_seq, ?, ?)", rows);
+
+        // 이전 페이지 마지막 데이터의 커서 (offset 페이징과 같은 위치를 조회하기 위함)
+        if (page > 0) {
+            BenchmarkItem last = queryFactory.selectFrom(ITEM)
+                    .orderBy(CREATED_AT.desc(), ID.desc())
+                    .offset((long) page * PAGE_SIZE - 1)
+                    .limit(1)
+                    .fetchOne();
+            cursor = QueryDslUtils.encodeCursor(last, SEEK_KEYS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<BenchmarkItem> offset() {
+        return QueryDslUtils.fetchSlice(
+                queryFactory.selectFrom(ITEM).orderBy(CREATED_AT.desc(), ID.desc()),
+                PageRequest.of(page, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public KeysetSlice<BenchmarkItem> keyset() {
+        return QueryDslUtils.fetchKeyset(queryFactory.selectFrom(ITEM), SEEK_KEYS, cursor, PAGE_SIZE);
+    }
+}
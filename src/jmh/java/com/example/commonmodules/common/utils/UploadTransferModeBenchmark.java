@@ -0,0 +1,85 @@
+package com.example.commonmodules.common.utils;
+
+import com.example.commonmodules.common.config.FileUploadConfig;
+import com.example.commonmodules.common.dto.FileUploadResult;
+import com.example.commonmodules.common.enums.file.UploadFileType;
+import com.example.commonmodules.common.enums.file.UploadTransferMode;
+import com.example.commonmodules.common.storage.StorageLayout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 저장 방식(file.upload.transfer-mode)별 단건 업로드 비용 측정
+ * - 메모리 part(MockMultipartFile) 기준이므로 TRANSFER 의 임시 파일 rename 이점은 포함되지 않음
+ * - 측정마다 저장 파일을 삭제 (삭제 비용은 모든 방식에 동일하게 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UploadTransferModeBenchmark {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A};
+
+    @Param({"COPY", "STREAM", "TRANSFER"})
+    private UploadTransferMode transferMode;
+
+    @Param({"65536", "8388608"})
+    private int fileSize;
+
+    private Path rootPath;
+    private FileUtils fileUtils;
+    private MockMultipartFile file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        rootPath = Files.createTempDirectory("upload-bench");
+
+        FileUploadConfig config = new FileUploadConfig();
+        config.setRootPath(rootPath.toString());
+        config.setFileMaxSize(Long.MAX_VALUE);
+        config.setTransferMode(transferMode);
+        config.setVirtualThreads(false);
+
+        fileUtils = new FileUtils(config, new DefaultListableBeanFactory().getBeanProvider(StorageLayout.class));
+        fileUtils.init();
+
+        byte[] content = new byte[fileSize];
+        System.arraycopy(PNG_SIGNATURE, 0, content, 0, PNG_SIGNATURE.length);
+        file = new MockMultipartFile("file", "bench.png", "image/png", content);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        fileUtils.destroy();
+        FileSystemUtils.deleteRecursively(rootPath);
+    }
+
+    @Benchmark
+    public FileUploadResult upload() throws IOException {
+        FileUploadResult result = FileUtils.uploadFile(file, UploadFileType.SAMPLE);
+        Files.deleteIfExists(Path.of(result.getFilePath()));
+        return result;
+    }
+}
@@ -6,4 +6,29 @@ import java.lang.annotation.*;
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface CustomApiLogger {
+
+    /**
+     * 로그 샘플링 비율 (0.0 ~ 1.0, 느린 요청은 샘플링과 관계없이 기록)
+     */
+    double sampleRate() default 1.0;
+
+    /**
+     * 파라미터 로그 출력 여부
+     */
+    boolean logArgs() default true;
+
+    /**
+     * 느린 요청 기준 시간(ms) (음수: 전역 설정 사용)
+     */
+    long slowThresholdMs() default -1;
+
+    /**
+     * 파라미터 로그 최대 길이 (음수: 전역 설정 사용)
+     */
+    int maxArgLength() default -1;
+
+    /**
+     * 로그에서 값을 가릴 파라미터 이름 (ex. password)
+     */
+    String[] redactArgs() default {};
 }
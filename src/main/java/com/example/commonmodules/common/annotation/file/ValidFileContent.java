@@ -0,0 +1,27 @@
+package com.example.commonmodules.common.annotation.file;
+
+import com.example.commonmodules.common.enums.file.UploadFileType.FileExtType;
+import com.example.commonmodules.common.validate.custom.file.CustomFileContentValidator;
+import jakarta.validation.Constraint;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 업로드 파일 내용(앞부분 magic byte)이 확장자 형식과 일치하는지 검사
+ * - 빈 파일은 검사하지 않음 (@ValidNotEmptyFile 과 함께 사용)
+ */
+@Constraint(validatedBy = CustomFileContentValidator.class)
+@Target({ElementType.PARAMETER, ElementType.FIELD, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidFileContent {
+    String message() default "파일 내용이 확장자와 일치하지 않습니다.";
+
+    FileExtType[] value() default {};   // 허용 형식 (비어있으면 FileExtType 전체)
+
+    Class[] groups() default {};
+
+    Class[] payload() default {};
+}
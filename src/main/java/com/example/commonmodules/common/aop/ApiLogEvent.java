@@ -0,0 +1,15 @@
+package com.example.commonmodules.common.aop;
+
+/**
+ * 비동기 로깅용 API 호출 이벤트
+ * - 요청 스레드에서 필요한 값만 문자열로 잡아두고, 포매팅/출력은 백그라운드 스레드에서 처리
+ *
+ * @param classMethod 호출된 클래스.메서드
+ * @param method      HTTP 메서드
+ * @param uri         요청 URI
+ * @param clientIp    클라이언트 IP
+ * @param elapsedMs   처리 시간(ms)
+ * @param args        요약된 파라미터
+ */
+public record ApiLogEvent(String classMethod, String method, String uri, String clientIp, long elapsedMs, String args) {
+}
@@ -0,0 +1,67 @@
+package com.example.commonmodules.common.aop;
+
+import com.example.commonmodules.common.annotation.common.CustomApiLogger;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 메서드별 API 로깅 메타정보 (메서드당 한 번만 계산하여 캐시)
+ *
+ * @param displayName     클래스.메서드
+ * @param argNames        파라미터 이름
+ * @param redacted        파라미터별 값 가림 여부
+ * @param anyRedacted     값을 가릴 파라미터가 있는지 여부
+ * @param sampleRate      로그 샘플링 비율
+ * @param logArgs         파라미터 로그 출력 여부
+ * @param slowThresholdMs 느린 요청 기준 시간(ms) (음수: 전역 설정 사용)
+ * @param maxArgLength    파라미터 로그 최대 길이 (음수: 전역 설정 사용)
+ */
+public record ApiLogMetadata(String displayName, String[] argNames, boolean[] redacted, boolean anyRedacted, double sampleRate,
+                             boolean logArgs, long slowThresholdMs, int maxArgLength) {
+
+    /**
+     * 메서드 또는 클래스에 선언된 CustomApiLogger 설정으로 메타정보 생성
+     *
+     * @param signature
+     * @param targetClass
+     * @return
+     */
+    public static ApiLogMetadata of(MethodSignature signature, Class<?> targetClass) {
+        Method method = signature.getMethod();
+
+        CustomApiLogger annotation = AnnotatedElementUtils.findMergedAnnotation(method, CustomApiLogger.class);
+        if (annotation == null && targetClass != null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, CustomApiLogger.class);
+        }
+
+        String[] argNames = signature.getParameterNames();
+        if (argNames == null) {
+            argNames = new String[method.getParameterCount()];
+            for (int i = 0; i < argNames.length; i++) {
+                argNames[i] = "arg" + i;
+            }
+        }
+
+        List<String> redactArgs = annotation != null ? Arrays.asList(annotation.redactArgs()) : List.of();
+        boolean[] redacted = new boolean[argNames.length];
+        boolean anyRedacted = false;
+        for (int i = 0; i < argNames.length; i++) {
+            redacted[i] = redactArgs.contains(argNames[i]);
+            anyRedacted |= redacted[i];
+        }
+
+        return new ApiLogMetadata(
+                signature.getDeclaringType().getSimpleName() + "." + signature.getName(),
+                argNames,
+                redacted,
+                anyRedacted,
+                annotation != null ? annotation.sampleRate() : 1.0,
+                annotation == null || annotation.logArgs(),
+                annotation != null ? annotation.slowThresholdMs() : -1,
+                annotation != null ? annotation.maxArgLength() : -1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.commonmodules.common.aop;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 다수 생산자 / 단일 소비자용 고정 크기 lock-free ring buffer
+ * - 가득 찬 경우 offer가 대기하지 않고 false를 반환 (호출측에서 누락 처리)
+ * - poll은 소비자 스레드 하나에서만 호출해야 함
+ */
+public class ApiLogRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();   // 다음에 채울 위치 (생산자)
+    private final AtomicLong head = new AtomicLong();   // 다음에 읽을 위치 (소비자)
+
+    public ApiLogRingBuffer(int requestedCapacity) {
+        int size = 1;
+        while (size < Math.max(requestedCapacity, 2)) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * 이벤트 적재
+     *
+     * @param element
+     * @return 버퍼가 가득 차서 적재하지 못한 경우 false
+     */
+    public boolean offer(E element) {
+        long position;
+        do {
+            position = tail.get();
+            if (position - head.get() >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+
+        slots.lazySet(index(position), element);
+        return true;
+    }
+
+    /**
+     * 이벤트 꺼내기 (소비자 스레드 전용)
+     *
+     * @return 비어 있거나 아직 기록 중인 슬롯이면 null
+     */
+    public E poll() {
+        long position = head.get();
+        int index = index(position);
+        E element = slots.get(index);
+        if (element == null) {
+            return null;
+        }
+
+        slots.lazySet(index, null);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int index(long position) {
+        return (int) (position & mask);
+    }
+}
@@ -1,22 +1,54 @@
 package com.example.commonmodules.common.aop;
 
+import com.example.commonmodules.common.config.ApiLoggingConfig;
+import com.example.commonmodules.common.enums.common.ApiLogLevel;
+import com.example.commonmodules.common.sql.RequestSqlContext;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAccessor;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class ApiLoggingAspect {
 
+    private static final String TRUNCATED = "...(truncated)";
+    private static final String REDACTED = "****";
+    private static final String ARGS_OMITTED = "(생략)";
+
+    private final ApiLoggingConfig apiLoggingConfig;
+    private final AsyncApiLogWriter asyncApiLogWriter;
+    private final ApiMetricsRecorder apiMetricsRecorder;
+    private final SlowApiLogger slowApiLogger;
+    private final SlowApiRegistry slowApiRegistry;
+
+    // 메서드별 로깅 메타정보 캐시
+    // 같은 메서드라도 대상 클래스(상속받은 컨트롤러 등)에 따라 어노테이션이 다를 수 있으므로 (메서드, 대상 클래스) 별로 보관
+    private final Map<MethodClassKey, ApiLogMetadata> metadataCache = new ConcurrentHashMap<>();
+
     /**
      * CustomApiLogger 애노테이션이 붙은 클래스 또는 메서드에 대해 AOP 적용
      *
@@ -24,9 +56,55 @@ public class ApiLoggingAspect {
      * @return
      * @throws Throwable
      */
-    // fixme: 경로 수정 필요
-    @Around("@annotation(com.miroit.contentapi.global.annotation.common.CustomApiLogger) || @within(com.miroit.contentapi.global.annotation.common.CustomApiLogger)")
+    @Around("@annotation(com.example.commonmodules.common.annotation.common.CustomApiLogger) || @within(com.example.commonmodules.common.annotation.common.CustomApiLogger)")
     public Object logAnnotatedApi(ProceedingJoinPoint joinPoint) throws Throwable {
+        ApiLogMetadata metadata = getMetadata(joinPoint);
+
+        // 지표 기록을 사용하지 않으면 추가 비용 없이 로깅만 수행
+        if (!apiMetricsRecorder.isEnabled()) {
+            return logApi(joinPoint, metadata);
+        }
+
+        long start = System.nanoTime();
+        Object result = null;
+        Throwable error = null;
+        try {
+            result = logApi(joinPoint, metadata);
+            return result;
+        } catch (Throwable t) {
+            error = t;
+            throw t;
+        } finally {
+            apiMetricsRecorder.record(metadata.displayName(), getCurrentHttpRequest(), getCurrentHttpResponse(),
+                    System.nanoTime() - start, result, error);
+        }
+    }
+
+    /**
+     * 설정된 방식(동기/비동기, 느린 요청 기준)으로 API 로깅
+     *
+     * @param joinPoint
+     * @param metadata
+     * @return
+     * @throws Throwable
+     */
+    private Object logApi(ProceedingJoinPoint joinPoint, ApiLogMetadata metadata) throws Throwable {
+        boolean sampled = isSampled(metadata);
+
+        long slowThresholdMs = getSlowThresholdMs(metadata);
+        if (slowThresholdMs >= 0) {
+            return logWithThreshold(joinPoint, metadata, sampled, slowThresholdMs);
+        }
+
+        // 샘플링에서 제외된 요청
+        if (!sampled) {
+            return joinPoint.proceed();
+        }
+
+        if (apiLoggingConfig.isAsync()) {
+            return logAsync(joinPoint, metadata);
+        }
+
         HttpServletRequest request = getCurrentHttpRequest();
 
         // 요청 정보 추출 (없을 경우 N/A로 처리)
@@ -34,28 +112,236 @@ public class ApiLoggingAspect {
         String method = request != null ? request.getMethod() : "N/A";
         String clientIp = request != null ? request.getRemoteAddr() : "N/A";
 
-        // 호출된 클래스 및 메서드 이름 추출
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String classMethod = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+        // 호출된 클래스 및 메서드 이름 (메서드별 캐시)
+        String classMethod = metadata.displayName();
 
         // 요청 로그 시작
         log.info("==================== [@ApiLoggable] start ====================");
         log.info("Path = {} {}", method, uri);
         log.info("IP = {}", clientIp);
-        log.info("Args = {}", Arrays.toString(joinPoint.getArgs()));
+        log.info("Args = {}", formatArgs(joinPoint.getArgs(), metadata));
 
         // 시간 측정
-        long start = System.currentTimeMillis();
+        long start = System.nanoTime();
         Object result = joinPoint.proceed();
-        long end = System.currentTimeMillis();
+        long end = System.nanoTime();
 
         // 요청 로그 종료
-        log.info("Done =  {} | Time = {}ms", classMethod, (end - start));
+        log.info("Done =  {} | Time = {}ms", classMethod, (end - start) / 1_000_000);
         log.info("==================== [@ApiLoggable] end ====================");
 
         return result;
     }
 
+    /**
+     * 느린 요청 기준 로깅 (api.logging.slow-threshold-ms 또는 @CustomApiLogger.slowThresholdMs)
+     * - 기준 시간 이상: JSON 한 줄로 WARN 기록 (SQL 수집시 SQL 건수/시간 포함), 샘플링과 관계없이 기록
+     * - 기준 시간 미만: api.logging.fast-log-level 레벨로 한 줄 기록 또는 생략
+     *
+     * @param joinPoint
+     * @param metadata
+     * @param sampled
+     * @param slowThresholdMs
+     * @return
+     * @throws Throwable
+     */
+    private Object logWithThreshold(ProceedingJoinPoint joinPoint, ApiLogMetadata metadata,
+                                    boolean sampled, long slowThresholdMs) throws Throwable {
+        RequestSqlContext startedSqlContext = apiLoggingConfig.isCaptureSql()
+                ? RequestSqlContext.begin(apiLoggingConfig.getMaxCapturedSql())
+                : null;
+
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            error = t;
+            throw t;
+        } finally {
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            boolean slow = elapsedMs >= slowThresholdMs;
+            try {
+                slowApiRegistry.record(metadata.displayName(), elapsedMs, slow);
+                if (slow) {
+                    slowApiLogger.log(metadata, getCurrentHttpRequest(), slowThresholdMs, elapsedMs,
+                            apiLoggingConfig.isCaptureSql() ? RequestSqlContext.current() : null,
+                            metadata.logArgs() ? summarizeArgs(joinPoint.getArgs(), metadata, getMaxArgLength(metadata)) : ARGS_OMITTED,
+                            error);
+                } else if (sampled) {
+                    logFast(joinPoint, metadata, elapsedMs);
+                }
+            } finally {
+                RequestSqlContext.end(startedSqlContext);
+            }
+        }
+    }
+
+    /**
+     * 느린 요청 기준 미만 요청 로그 (한 줄)
+     *
+     * @param joinPoint
+     * @param metadata
+     * @param elapsedMs
+     */
+    private void logFast(ProceedingJoinPoint joinPoint, ApiLogMetadata metadata, long elapsedMs) {
+        ApiLogLevel level = apiLoggingConfig.getFastLogLevel();
+        if (level == ApiLogLevel.OFF || (level == ApiLogLevel.DEBUG && !log.isDebugEnabled())) {
+            return;
+        }
+
+        HttpServletRequest request = getCurrentHttpRequest();
+        String method = request != null ? request.getMethod() : "N/A";
+        String uri = request != null ? request.getRequestURI() : "N/A";
+        String clientIp = request != null ? request.getRemoteAddr() : "N/A";
+        String args = metadata.logArgs() ? summarizeArgs(joinPoint.getArgs(), metadata, getMaxArgLength(metadata)) : ARGS_OMITTED;
+
+        if (level == ApiLogLevel.DEBUG) {
+            log.debug("[@ApiLoggable] {} {} | IP = {} | Done = {} | Time = {}ms | Args = {}",
+                    method, uri, clientIp, metadata.displayName(), elapsedMs, args);
+        } else if (apiLoggingConfig.isAsync()) {
+            asyncApiLogWriter.publish(new ApiLogEvent(metadata.displayName(), method, uri, clientIp, elapsedMs, args));
+        } else {
+            log.info("[@ApiLoggable] {} {} | IP = {} | Done = {} | Time = {}ms | Args = {}",
+                    method, uri, clientIp, metadata.displayName(), elapsedMs, args);
+        }
+    }
+
+    /**
+     * 비동기 로깅 (api.logging.async)
+     * - 요청 스레드에서는 요약된 이벤트만 만들어 ring buffer에 적재
+     *
+     * @param joinPoint
+     * @param metadata
+     * @return
+     * @throws Throwable
+     */
+    private Object logAsync(ProceedingJoinPoint joinPoint, ApiLogMetadata metadata) throws Throwable {
+        long start = System.nanoTime();
+        Object result = joinPoint.proceed();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        HttpServletRequest request = getCurrentHttpRequest();
+
+        asyncApiLogWriter.publish(new ApiLogEvent(
+                metadata.displayName(),
+                request != null ? request.getMethod() : "N/A",
+                request != null ? request.getRequestURI() : "N/A",
+                request != null ? request.getRemoteAddr() : "N/A",
+                elapsedMs,
+                metadata.logArgs()
+                        ? summarizeArgs(joinPoint.getArgs(), metadata, getMaxArgLength(metadata))
+                        : ARGS_OMITTED));
+
+        return result;
+    }
+
+    /**
+     * 메서드/대상 클래스별 로깅 메타정보 조회 (최초 호출시 한 번만 계산)
+     *
+     * @param joinPoint
+     * @return
+     */
+    private ApiLogMetadata getMetadata(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Class<?> targetClass = joinPoint.getTarget() != null ? AopUtils.getTargetClass(joinPoint.getTarget()) : null;
+        MethodClassKey key = new MethodClassKey(signature.getMethod(), targetClass);
+
+        ApiLogMetadata metadata = metadataCache.get(key);
+        if (metadata != null) {
+            return metadata;
+        }
+        return metadataCache.computeIfAbsent(key, k -> ApiLogMetadata.of(signature, targetClass));
+    }
+
+    private boolean isSampled(ApiLogMetadata metadata) {
+        double sampleRate = metadata.sampleRate();
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private long getSlowThresholdMs(ApiLogMetadata metadata) {
+        return metadata.slowThresholdMs() >= 0 ? metadata.slowThresholdMs() : apiLoggingConfig.getSlowThresholdMs();
+    }
+
+    private int getMaxArgLength(ApiLogMetadata metadata) {
+        return metadata.maxArgLength() >= 0 ? metadata.maxArgLength() : apiLoggingConfig.getMaxArgLength();
+    }
+
+    /**
+     * 동기 로깅용 파라미터 문자열
+     * - 별도 설정이 없으면 기존과 같이 Arrays.toString 사용
+     */
+    private String formatArgs(Object[] args, ApiLogMetadata metadata) {
+        if (!metadata.logArgs()) {
+            return ARGS_OMITTED;
+        }
+        if (metadata.anyRedacted() || metadata.maxArgLength() >= 0) {
+            return summarizeArgs(args, metadata, getMaxArgLength(metadata));
+        }
+        return Arrays.toString(args);
+    }
+
+    /**
+     * 파라미터 요약 문자열 생성
+     * - 파일, 요청/응답 객체, 컬렉션은 내용 대신 크기만 표시
+     * - 문자열/숫자/날짜/enum 외의 객체는 toString 을 호출하지 않고 타입명@identity hash 로 표시 (toString 비용/길이 제한)
+     * - 값을 가릴 파라미터는 **** 로 표시
+     * - 최대 길이를 넘으면 잘라냄
+     *
+     * @param args
+     * @param metadata
+     * @param maxLength
+     * @return
+     */
+    private static String summarizeArgs(Object[] args, ApiLogMetadata metadata, int maxLength) {
+        String[] argNames = metadata.argNames();
+        boolean[] redacted = metadata.redacted();
+
+        StringBuilder sb = new StringBuilder(Math.min(Math.max(maxLength, 16), 256)).append('[');
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            if (i < argNames.length) {
+                sb.append(argNames[i]).append('=');
+            }
+            if (i < redacted.length && redacted[i]) {
+                sb.append(REDACTED);
+            } else {
+                appendArg(sb, args[i], maxLength);
+            }
+            if (sb.length() > maxLength) {
+                sb.setLength(maxLength);
+                return sb.append(TRUNCATED).toString();
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    private static void appendArg(StringBuilder sb, Object arg, int maxLength) {
+        if (arg == null) {
+            sb.append("null");
+        } else if (arg instanceof MultipartFile file) {
+            sb.append("MultipartFile(").append(file.getOriginalFilename()).append(", ").append(file.getSize()).append(" bytes)");
+        } else if (arg instanceof ServletRequest || arg instanceof ServletResponse) {
+            sb.append(arg.getClass().getSimpleName());
+        } else if (arg instanceof Collection<?> collection) {
+            sb.append(arg.getClass().getSimpleName()).append("(size=").append(collection.size()).append(')');
+        } else if (arg instanceof Map<?, ?> map) {
+            sb.append(arg.getClass().getSimpleName()).append("(size=").append(map.size()).append(')');
+        } else if (arg.getClass().isArray()) {
+            sb.append(arg.getClass().getComponentType().getSimpleName()).append('[').append(Array.getLength(arg)).append(']');
+        } else if (arg instanceof CharSequence text) {
+            // 최대 길이를 넘는 부분은 복사하지 않음 (1자 더 붙여 잘림 여부 판단)
+            sb.append(text, 0, Math.min(text.length(), Math.max(maxLength - sb.length() + 1, 0)));
+        } else if (arg instanceof Number || arg instanceof Boolean || arg instanceof Character || arg instanceof Enum<?>
+                || arg instanceof TemporalAccessor || arg instanceof UUID) {
+            sb.append(arg);
+        } else {
+            sb.append(arg.getClass().getSimpleName()).append('@').append(Integer.toHexString(System.identityHashCode(arg)));
+        }
+    }
+
     /**
      * 현재 요청(HttpServletRequest)을 가져오는 메서드
      *
@@ -68,4 +354,17 @@ public class ApiLoggingAspect {
         }
         return null;
     }
+
+    /**
+     * 현재 응답(HttpServletResponse)을 가져오는 메서드
+     *
+     * @return HttpServletResponse
+     */
+    private HttpServletResponse getCurrentHttpResponse() {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getResponse();
+        }
+        return null;
+    }
 }
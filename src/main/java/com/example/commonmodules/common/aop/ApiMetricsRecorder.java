@@ -0,0 +1,141 @@
+package com.example.commonmodules.common.aop;
+
+import com.example.commonmodules.common.config.ApiLoggingConfig;
+import com.example.commonmodules.common.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CustomApiLogger 대상 API 처리 시간 Micrometer Timer 기록
+ * - 태그: handler(클래스.메서드), method, uri(URI 템플릿), status, exception
+ * - uri 태그는 요청 URI가 아닌 매핑된 URI 템플릿을 사용하고, 개수는 api.logging.max-uri-tags 로 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiMetricsRecorder {
+
+    public static final String METRIC_NAME = "api.requests";
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final String NONE = "none";
+    private static final int MAX_CACHED_TIMERS = 10_000;
+
+    private final ApiLoggingConfig apiLoggingConfig;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    private MeterRegistry meterRegistry;
+    private Duration[] slo;
+
+    private record TimerKey(String handler, String method, String uri, String status, String exception) {
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!apiLoggingConfig.isMetricsEnabled()) {
+            return;
+        }
+
+        meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (meterRegistry == null) {
+            log.warn("MeterRegistry 빈이 없어 API 지표를 기록하지 않습니다.");
+            return;
+        }
+
+        slo = apiLoggingConfig.getSlo().toArray(Duration[]::new);
+        meterRegistry.config().meterFilter(
+                MeterFilter.maximumAllowableTags(METRIC_NAME, "uri", apiLoggingConfig.getMaxUriTags(), MeterFilter.deny()));
+    }
+
+    /**
+     * 지표 기록 사용 여부
+     *
+     * @return
+     */
+    public boolean isEnabled() {
+        return meterRegistry != null;
+    }
+
+    /**
+     * 처리 시간 기록
+     *
+     * @param handler      클래스.메서드
+     * @param request
+     * @param response
+     * @param elapsedNanos 처리 시간(ns)
+     * @param result       반환값
+     * @param error        발생한 예외 (없으면 null)
+     */
+    public void record(String handler, HttpServletRequest request, HttpServletResponse response,
+                       long elapsedNanos, Object result, Throwable error) {
+        if (meterRegistry == null) {
+            return;
+        }
+
+        TimerKey key = new TimerKey(
+                handler,
+                request != null ? request.getMethod() : UNKNOWN,
+                getUriTemplate(request),
+                getStatus(response, result, error),
+                error != null ? error.getClass().getSimpleName() : NONE);
+
+        Timer timer = timers.get(key);
+        if (timer == null) {
+            timer = registerTimer(key);
+            if (timers.size() < MAX_CACHED_TIMERS) {
+                timers.putIfAbsent(key, timer);
+            }
+        }
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer registerTimer(TimerKey key) {
+        return Timer.builder(METRIC_NAME)
+                .description("CustomApiLogger API 처리 시간")
+                .tags("handler", key.handler(),
+                        "method", key.method(),
+                        "uri", key.uri(),
+                        "status", key.status(),
+                        "exception", key.exception())
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(slo)
+                .register(meterRegistry);
+    }
+
+    private String getUriTemplate(HttpServletRequest request) {
+        if (request == null) {
+            return UNKNOWN;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN;
+    }
+
+    private String getStatus(HttpServletResponse response, Object result, Throwable error) {
+        if (error instanceof BusinessException businessException && businessException.getApiReturnCode() != null) {
+            return String.valueOf(businessException.getApiReturnCode().getCode());
+        }
+        if (error != null) {
+            return "500";
+        }
+        if (result instanceof ResponseEntity<?> responseEntity) {
+            return String.valueOf(responseEntity.getStatusCode().value());
+        }
+        return response != null ? String.valueOf(response.getStatus()) : UNKNOWN;
+    }
+}
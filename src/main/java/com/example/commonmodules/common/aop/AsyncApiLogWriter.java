@@ -0,0 +1,124 @@
+package com.example.commonmodules.common.aop;
+
+import com.example.commonmodules.common.config.ApiLoggingConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * API 로그 비동기 출력기
+ * - 요청 스레드는 ring buffer에 이벤트만 적재하고, 포매팅/출력은 백그라운드 스레드 하나에서 처리
+ * - 버퍼가 가득 차거나 출력 중 오류가 나면 이벤트를 버리고 누락 건수를 주기적으로 경고 로그로 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncApiLogWriter {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final ApiLoggingConfig apiLoggingConfig;
+
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder totalDroppedCount = new LongAdder();
+
+    private ApiLogRingBuffer<ApiLogEvent> buffer;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void init() {
+        if (!apiLoggingConfig.isAsync()) {
+            return;
+        }
+
+        buffer = new ApiLogRingBuffer<>(apiLoggingConfig.getBufferSize());
+        running = true;
+        writerThread = new Thread(this::drainLoop, "api-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("API 비동기 로깅 사용 (buffer size: {})", buffer.capacity());
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    /**
+     * 로그 이벤트 적재 (버퍼가 가득 찬 경우 누락 처리)
+     *
+     * @param event
+     */
+    public void publish(ApiLogEvent event) {
+        if (buffer == null || !buffer.offer(event)) {
+            droppedCount.increment();
+            totalDroppedCount.increment();
+        }
+    }
+
+    /**
+     * 버퍼가 가득 차거나 출력 오류로 누락된 전체 이벤트 수
+     *
+     * @return
+     */
+    public long getDroppedCount() {
+        return totalDroppedCount.sum();
+    }
+
+    private void drainLoop() {
+        long nextDropReport = System.nanoTime() + DROP_REPORT_INTERVAL_NANOS;
+
+        while (running) {
+            ApiLogEvent event = buffer.poll();
+            if (event != null) {
+                write(event);
+                continue;
+            }
+
+            if (System.nanoTime() - nextDropReport >= 0) {
+                reportDropped();
+                nextDropReport = System.nanoTime() + DROP_REPORT_INTERVAL_NANOS;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+
+        // 종료 전 남은 이벤트 출력
+        ApiLogEvent event;
+        while ((event = buffer.poll()) != null) {
+            write(event);
+        }
+        reportDropped();
+    }
+
+    private void write(ApiLogEvent event) {
+        try {
+            log.info("[@ApiLoggable] {} {} | IP = {} | Done = {} | Time = {}ms | Args = {}",
+                    event.method(), event.uri(), event.clientIp(), event.classMethod(), event.elapsedMs(), event.args());
+        } catch (RuntimeException e) {
+            // 출력 오류로 writer 스레드가 종료되지 않도록 함 (누락 건수에 포함)
+            droppedCount.increment();
+            totalDroppedCount.increment();
+        }
+    }
+
+    private void reportDropped() {
+        long dropped = droppedCount.sumThenReset();
+        if (dropped > 0) {
+            log.warn("API 로그 버퍼 초과 또는 출력 오류로 {}건의 로그가 누락되었습니다. (누적 {}건)", dropped, totalDroppedCount.sum());
+        }
+    }
+}
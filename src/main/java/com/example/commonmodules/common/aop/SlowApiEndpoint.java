@@ -0,0 +1,43 @@
+package com.example.commonmodules.common.aop;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 느린 API 통계 actuator 엔드포인트 (/actuator/slowapis)
+ * - 사용하는 서비스에서 management.endpoints.web.exposure.include 에 slowapis 를 추가해야 노출됨
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "slowapis")
+public class SlowApiEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SlowApiRegistry slowApiRegistry;
+
+    /**
+     * 최대 처리 시간 기준 상위 N개 API 조회
+     *
+     * @param limit 조회 건수 (기본: 20)
+     * @return
+     */
+    @ReadOperation
+    public List<SlowApiRegistry.SlowApiSnapshot> top(@Nullable Integer limit) {
+        return slowApiRegistry.getTopSlowest(limit != null && limit > 0 ? limit : DEFAULT_LIMIT);
+    }
+
+    /**
+     * 통계 초기화
+     */
+    @DeleteOperation
+    public void reset() {
+        slowApiRegistry.reset();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.commonmodules.common.aop;
+
+import com.example.commonmodules.common.sql.RequestSqlContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 느린 요청 구조화(JSON) 로그 출력
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlowApiLogger {
+
+    private static final int MAX_REPEATED_SQL = 3;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 느린 요청 로그 출력
+     *
+     * @param metadata
+     * @param request
+     * @param thresholdMs 느린 요청 기준 시간(ms)
+     * @param elapsedMs   처리 시간(ms)
+     * @param sqlContext  요청 중 수집된 SQL (없으면 null)
+     * @param args        요약된 파라미터
+     * @param error       발생한 예외 (없으면 null)
+     */
+    public void log(ApiLogMetadata metadata, HttpServletRequest request, long thresholdMs, long elapsedMs,
+                    RequestSqlContext sqlContext, String args, Throwable error) {
+
+        Map<String, Object> slowLog = new LinkedHashMap<>();
+        slowLog.put("type", "SLOW_API");
+        slowLog.put("handler", metadata.displayName());
+        slowLog.put("method", request != null ? request.getMethod() : "N/A");
+        slowLog.put("uri", request != null ? request.getRequestURI() : "N/A");
+        slowLog.put("uriTemplate", request != null ? request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) : null);
+        slowLog.put("ip", request != null ? request.getRemoteAddr() : "N/A");
+        slowLog.put("thresholdMs", thresholdMs);
+        slowLog.put("totalMs", elapsedMs);
+
+        // 처리 시간 구분 (SQL 실행 시간 / 그 외 시간)
+        if (sqlContext != null) {
+            long sqlMs = sqlContext.getTotalElapsedNanos() / 1_000_000;
+            slowLog.put("sqlMs", sqlMs);
+            slowLog.put("appMs", Math.max(elapsedMs - sqlMs, 0));
+            slowLog.put("sqlCount", sqlContext.getStatementCount());
+
+            List<Map<String, Object>> statements = new ArrayList<>(sqlContext.getStatements().size());
+            for (RequestSqlContext.CapturedSql capturedSql : sqlContext.getStatements()) {
+                Map<String, Object> statement = new LinkedHashMap<>();
+                statement.put("elapsedMs", capturedSql.elapsedNanos() / 1_000_000.0);
+                statement.put("sql", capturedSql.sql());
+                statements.add(statement);
+            }
+            slowLog.put("sql", statements);
+
+            // 반복 실행된 SQL 형태 (N+1 확인용)
+            List<RequestSqlContext.RepeatedSql> repeated = sqlContext.getRepeatedStatements(2);
+            if (!repeated.isEmpty()) {
+                slowLog.put("sqlRepeated", repeated.subList(0, Math.min(repeated.size(), MAX_REPEATED_SQL)));
+            }
+        }
+
+        slowLog.put("args", args);
+        if (error != null) {
+            slowLog.put("error", error.getClass().getSimpleName());
+        }
+
+        try {
+            log.warn("[@ApiLoggable][SLOW] {}", objectMapper.writeValueAsString(slowLog));
+        } catch (JsonProcessingException e) {
+            log.warn("[@ApiLoggable][SLOW] {} | Time = {}ms", metadata.displayName(), elapsedMs);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.commonmodules.common.aop;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API별 처리 시간 통계 (느린 요청 기준 사용시 집계)
+ * - 가장 느린 API 상위 N건 조회용
+ */
+@Component
+public class SlowApiRegistry {
+
+    private static final int MAX_ENDPOINTS = 2_000;
+
+    private final Map<String, EndpointStats> statsMap = new ConcurrentHashMap<>();
+
+    /**
+     * API별 처리 시간 통계 조회 결과
+     *
+     * @param handler   클래스.메서드
+     * @param count     호출 수
+     * @param slowCount 느린 요청 수
+     * @param avgMs     평균 처리 시간(ms)
+     * @param maxMs     최대 처리 시간(ms)
+     */
+    public record SlowApiSnapshot(String handler, long count, long slowCount, double avgMs, long maxMs) {
+    }
+
+    private static final class EndpointStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final LongAdder totalMs = new LongAdder();
+        private final LongAccumulator maxMs = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * 처리 시간 기록
+     *
+     * @param handler
+     * @param elapsedMs
+     * @param slow
+     */
+    public void record(String handler, long elapsedMs, boolean slow) {
+        EndpointStats stats = statsMap.get(handler);
+        if (stats == null) {
+            if (statsMap.size() >= MAX_ENDPOINTS) {
+                return;
+            }
+            stats = statsMap.computeIfAbsent(handler, key -> new EndpointStats());
+        }
+
+        stats.count.increment();
+        stats.totalMs.add(elapsedMs);
+        stats.maxMs.accumulate(elapsedMs);
+        if (slow) {
+            stats.slowCount.increment();
+        }
+    }
+
+    /**
+     * 최대 처리 시간 기준 상위 N개 API
+     *
+     * @param limit
+     * @return
+     */
+    public List<SlowApiSnapshot> getTopSlowest(int limit) {
+        return statsMap.entrySet().stream()
+                .map(entry -> toSnapshot(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(SlowApiSnapshot::maxMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 통계 초기화
+     */
+    public void reset() {
+        statsMap.clear();
+    }
+
+    private SlowApiSnapshot toSnapshot(String handler, EndpointStats stats) {
+        long count = stats.count.sum();
+        return new SlowApiSnapshot(handler, count, stats.slowCount.sum(),
+                count > 0 ? (double) stats.totalMs.sum() / count : 0, stats.maxMs.get());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.commonmodules.common.config;
+
+import com.example.commonmodules.common.enums.common.ApiLogLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "api.logging")
+public class ApiLoggingConfig {
+    private boolean async;                  // 비동기 로깅 사용 여부 (요청 스레드에서는 이벤트만 적재)
+    private int bufferSize = 8192;          // 비동기 로깅 ring buffer 크기 (2의 제곱수로 올림)
+    private int maxArgLength = 200;         // Args 요약 최대 길이 (동기/비동기/느린 요청 로그 모두 적용, @CustomApiLogger(maxArgLength) 설정이 우선)
+    private boolean metricsEnabled;         // Micrometer Timer 기록 여부
+    private List<Duration> slo = List.of(Duration.ofMillis(100), Duration.ofMillis(300), Duration.ofSeconds(1), Duration.ofSeconds(3)); // SLO 버킷
+    private int maxUriTags = 200;           // uri 태그 최대 개수 (초과분은 기록하지 않음)
+    private long slowThresholdMs = -1;      // 느린 요청 기준 시간(ms) (음수: 사용하지 않음, @CustomApiLogger 설정이 우선)
+    private ApiLogLevel fastLogLevel = ApiLogLevel.DEBUG; // 느린 요청 기준 사용시 빠른 요청 로그 레벨
+    private boolean captureSql;             // 느린 요청 로그에 P6Spy로 수집한 SQL 포함 여부
+    private int maxCapturedSql = 20;        // 느린 요청 로그에 포함할 SQL 최대 건수
+}
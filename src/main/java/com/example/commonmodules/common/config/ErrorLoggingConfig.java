@@ -0,0 +1,20 @@
+package com.example.commonmodules.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "error.logging")
+public class ErrorLoggingConfig {
+    private int maxPerInterval = 10;                        // 같은 오류(예외 클래스 + 메시지 형태) 구간별 최대 로그 건수 (0 이하: 제한 없음)
+    private Duration interval = Duration.ofMinutes(1);      // 로그 건수 제한 구간
+    private int maxKeys = 1000;                             // 건수를 관리할 오류 종류 최대 수
+    private boolean metricsEnabled;                         // 오류 응답 Micrometer Counter(api.errors) 기록 여부
+    private int maxUriTags = 200;                           // uri 태그 최대 개수 (초과분은 기록하지 않음)
+}
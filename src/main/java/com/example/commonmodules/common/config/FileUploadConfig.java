@@ -1,10 +1,19 @@
 package com.example.commonmodules.common.config;
 
+import com.example.commonmodules.common.enums.file.StorageLayoutType;
+import com.example.commonmodules.common.enums.file.UploadFileType;
+import com.example.commonmodules.common.enums.file.UploadTransferMode;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Getter
 @Setter
 @Configuration
@@ -12,4 +21,26 @@ import org.springframework.context.annotation.Configuration;
 public class FileUploadConfig {
     private String rootPath;
     private long fileMaxSize;
+    private UploadTransferMode transferMode = UploadTransferMode.COPY;   // 파일 저장 방식
+    private int streamBufferSize = 64 * 1024;                            // STREAM 방식 direct buffer 크기 (동시 저장 수만큼 재사용)
+    private int batchParallelism;                                        // 다건 업로드 동시 저장 수 (0 이하: CPU 코어 수)
+    private boolean virtualThreads = true;                               // 다건 업로드시 virtual thread 사용 여부 (JDK 21 이상)
+    private boolean dedupEnabled;                                        // 내용 기반 중복 제거 저장 사용 여부
+    private String hashAlgorithm = "SHA-256";                            // 내용 해시 알고리즘 (MessageDigest)
+    private StorageLayoutType layout = StorageLayoutType.FLAT;           // 업로드 디렉토리 내부 배치 전략
+    private int migrationFilesPerSecond = 200;                           // 배치 전략 변경시 초당 이동 파일 수
+    private Duration downloadCacheMaxAge = Duration.ofHours(1);          // 다운로드 응답 Cache-Control max-age
+    private boolean contentCheckEnabled;                                 // 업로드시 파일 앞부분 magic byte 로 실제 형식 검사 여부 (validateFile 에 적용, @ValidFileContent 는 항상 검사)
+    private Map<String, UploadType> types = new LinkedHashMap<>();      // 설정으로 추가할 업로드 분류 (key: 분류 이름)
+
+    /**
+     * 설정으로 추가하는 업로드 분류 (UploadCategoryRegistry 에 등록)
+     */
+    @Getter
+    @Setter
+    public static class UploadType {
+        private String code;                                             // 업로드 디렉토리 (ex. /notice)
+        private String codeName;                                         // 분류명
+        private List<UploadFileType.FileExtType> fileExtTypes = new ArrayList<>();   // 허용 확장자
+    }
 }
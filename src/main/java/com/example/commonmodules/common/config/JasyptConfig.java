@@ -1,5 +1,7 @@
 package com.example.commonmodules.common.config;
 
+import com.example.commonmodules.common.crypto.CachingStringEncryptor;
+import com.ulisesbocchio.jasyptspringboot.EncryptablePropertySource;
 import lombok.extern.slf4j.Slf4j;
 import org.jasypt.encryption.StringEncryptor;
 import org.jasypt.encryption.pbe.PooledPBEStringEncryptor;
@@ -7,30 +9,118 @@ import org.jasypt.encryption.pbe.config.SimpleStringPBEConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * jasypt 암복호 설정
+ * - jasypt.encryptor.algorithm: 기본 PBEWithMD5AndDES (기존 암호문 호환), 신규 암호화는 PBEWITHHMACSHA512ANDAES_256 권장
+ * - jasypt.encryptor.pool-size: 0 이하이면 CPU 코어 수
+ * - 기동 시 ENC() 속성을 병렬로 미리 복호화하고, 복호화 결과는 컨텍스트가 유지되는 동안 캐시
+ */
 @Configuration
 @Slf4j
 public class JasyptConfig {
 
+    private static final String AES_ALGORITHM_KEYWORD = "AES";
+
     @Value("${jasypt.encryptor.password}")
     private String password;
 
+    @Value("${jasypt.encryptor.algorithm:PBEWithMD5AndDES}")
+    private String algorithm;
+
+    @Value("${jasypt.encryptor.key-obtention-iterations:1000}")
+    private int keyObtentionIterations;
+
+    @Value("${jasypt.encryptor.pool-size:0}")
+    private int poolSize;
+
+    // 미지정 시 AES 계열은 RandomIvGenerator, 그 외는 NoIvGenerator
+    @Value("${jasypt.encryptor.iv-generator-classname:}")
+    private String ivGeneratorClassName;
+
+    @Value("${jasypt.encryptor.property.prefix:ENC(}")
+    private String propertyPrefix;
+
+    @Value("${jasypt.encryptor.property.suffix:)}")
+    private String propertySuffix;
+
+    @Value("${jasypt.encryptor.cache-size:1000}")
+    private int cacheSize;
+
+    @Value("${jasypt.encryptor.preload:true}")
+    private boolean preload;
+
     // 전달받은 개인키 기반 암복호 객체를 빈으로 등록
     @Bean(name="jasyptStringEncryptor")
-    public StringEncryptor stringEncryptor() {
+    public StringEncryptor stringEncryptor(ConfigurableEnvironment environment) {
+        int resolvedPoolSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
         PooledPBEStringEncryptor encryptor = new PooledPBEStringEncryptor();
         SimpleStringPBEConfig config = new SimpleStringPBEConfig();
-
-        log.info("password ==> {}", password);
-
         config.setPassword(password);
-        config.setAlgorithm("PBEWithMD5AndDES");
-        config.setKeyObtentionIterations("1000");
-        config.setPoolSize("1");
+        config.setAlgorithm(algorithm);
+        config.setKeyObtentionIterations(keyObtentionIterations);
+        config.setPoolSize(resolvedPoolSize);
         config.setProviderName("SunJCE");
         config.setSaltGeneratorClassName("org.jasypt.salt.RandomSaltGenerator");
+        config.setIvGeneratorClassName(getIvGeneratorClassName());
         config.setStringOutputType("base64");
         encryptor.setConfig(config);
-        return encryptor;
+
+        CachingStringEncryptor cachingEncryptor = new CachingStringEncryptor(encryptor, cacheSize);
+        if (preload) {
+            long start = System.nanoTime();
+            List<String> encryptedValues = findEncryptedValues(environment);
+            int loaded = cachingEncryptor.preload(encryptedValues, resolvedPoolSize);
+            log.info("암호화 속성 사전 복호화 {}/{}건 ({}ms, algorithm: {}, pool size: {})", loaded, encryptedValues.size(),
+                    (System.nanoTime() - start) / 1_000_000, algorithm, resolvedPoolSize);
+        }
+        return cachingEncryptor;
+    }
+
+    private String getIvGeneratorClassName() {
+        if (StringUtils.hasText(ivGeneratorClassName)) {
+            return ivGeneratorClassName;
+        }
+        return algorithm.toUpperCase().contains(AES_ALGORITHM_KEYWORD)
+                ? "org.jasypt.iv.RandomIvGenerator"
+                : "org.jasypt.iv.NoIvGenerator";
+    }
+
+    /**
+     * 환경 속성 중 암호화된 값(ENC(...)) 수집
+     * - jasypt 래핑 전 원본 속성을 조회 (래핑된 속성 조회 시 복호화가 일어나므로)
+     *
+     * @param environment
+     * @return 암호문 목록 (prefix/suffix 제외)
+     */
+    private List<String> findEncryptedValues(ConfigurableEnvironment environment) {
+        List<String> encryptedValues = new ArrayList<>();
+        for (PropertySource<?> propertySource : environment.getPropertySources()) {
+            PropertySource<?> source = propertySource instanceof EncryptablePropertySource<?> encryptable
+                    ? encryptable.getDelegate()
+                    : propertySource;
+            if (!(source instanceof EnumerablePropertySource<?> enumerable)) {
+                continue;
+            }
+
+            for (String name : enumerable.getPropertyNames()) {
+                if (enumerable.getProperty(name) instanceof String value) {
+                    String trimmed = value.trim();
+                    if (trimmed.startsWith(propertyPrefix) && trimmed.endsWith(propertySuffix)
+                            && trimmed.length() > propertyPrefix.length() + propertySuffix.length()) {
+                        encryptedValues.add(trimmed.substring(propertyPrefix.length(), trimmed.length() - propertySuffix.length()));
+                    }
+                }
+            }
+        }
+        return encryptedValues;
     }
 }
@@ -0,0 +1,47 @@
+package com.example.commonmodules.common.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "jpa.batch")
+public class JpaBatchConfig {
+    private boolean enabled;                // Hibernate JDBC batch 설정 자동 적용 여부 (서비스에서 직접 설정한 값이 우선)
+    private int size = 500;                 // JDBC batch 크기 및 persist 후 flush/clear 주기
+    private int deleteChunkSize = 1000;     // id 목록 삭제시 IN 절 최대 갯수
+
+    @PostConstruct
+    public void validate() {
+        if (size <= 0 || deleteChunkSize <= 0) {
+            throw new IllegalArgumentException("jpa.batch.size, jpa.batch.delete-chunk-size 는 0보다 커야 합니다.");
+        }
+    }
+
+    /**
+     * Hibernate JDBC batch 설정
+     * - 같은 테이블의 insert/update 를 모아서 batch 로 실행하도록 정렬
+     * - IDENTITY 전략 엔티티는 Hibernate 가 insert batch 를 사용하지 않음 (SEQUENCE / TABLE 또는 JdbcTemplate batch 사용)
+     *
+     * @return
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jpaBatchHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            if (!enabled) {
+                return;
+            }
+            hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, size);
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.commonmodules.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "multipart.json")
+public class MultipartJsonConfig {
+    private DataSize maxPartSize = DataSize.ofBytes(0);         // multipart JSON part 최대 크기 (0 이하: 제한 없음)
+    private int chunkSize = 500;                                // JsonArrayStream 기본 chunk 크기
+}
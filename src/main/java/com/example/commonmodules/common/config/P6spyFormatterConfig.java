@@ -1,65 +1,116 @@
 package com.example.commonmodules.common.config;
 
+import com.example.commonmodules.common.enums.common.SqlFormatStyle;
+import com.example.commonmodules.common.sql.SqlFingerprint;
+import com.example.commonmodules.common.sql.SqlLogAppender;
+import com.example.commonmodules.common.sql.SqlLogPolicy;
+import com.example.commonmodules.common.sql.SqlTemplate;
+import com.example.commonmodules.common.utils.LruCache;
 import com.p6spy.engine.logging.Category;
 import com.p6spy.engine.spy.P6SpyOptions;
 import com.p6spy.engine.spy.appender.MessageFormattingStrategy;
+import com.p6spy.engine.spy.appender.Slf4JLogger;
 import io.micrometer.common.util.StringUtils;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Locale;
-
 /**
  * P6Spy 쿼리 로그 포매터 설정 클래스
+ * - P6Spy는 포매터를 직접 생성하므로 설정값은 static 필드로 공유
+ * - prepared SQL 형태별 포맷 결과를 LRU 캐시에 보관하고, 실행시에는 바인딩 값만 끼워 넣음
+ * - 기록 정책(sql.log.mode 등)은 SqlLogAppender에서 포맷 전에 적용 (sql.log.policy-enabled)
  */
+@Slf4j
 @Configuration
 public class P6SpyFormatterConfig implements MessageFormattingStrategy {
 
-    private static final String DDL_CREATE = "create";
-    private static final String DDL_ALTER = "alter";
-    private static final String DDL_COMMENT = "comment";
-    private static final String LOG_FORMAT = "[%s] | %d ms | %s";
     private static final String EMPTY_RESULT = "";
 
+    private static volatile SqlFormatStyle FORMAT_STYLE = SqlFormatStyle.PRETTY;
+    private static volatile LruCache<String, SqlTemplate> TEMPLATE_CACHE;
+
+    @Autowired
+    private SqlLogConfig sqlLogConfig;
 
     /**
      * P6Spy가 해당 클래스의 포매팅 전략을 사용하도록 설정
+     * - 기록 정책 appender(SqlLogAppender)는 sql.log.policy-enabled 인 경우에만 등록하며,
+     *   사용하는 서비스가 기본(Slf4j) 외의 appender 를 설정했다면 교체하지 않음
      */
     @PostConstruct
     public void init() {
+        FORMAT_STYLE = sqlLogConfig.getFormatStyle();
+        TEMPLATE_CACHE = sqlLogConfig.getFormatCacheSize() > 0 ? new LruCache<>(sqlLogConfig.getFormatCacheSize()) : null;
+        SqlLogAppender.setPolicy(SqlLogPolicy.from(sqlLogConfig));
+
         P6SpyOptions.getActiveInstance().setLogMessageFormat(this.getClass().getName());
+        if (sqlLogConfig.isPolicyEnabled()) {
+            installPolicyAppender();
+        }
+    }
+
+    private void installPolicyAppender() {
+        String activeAppender = P6SpyOptions.getActiveInstance().getAppender();
+        if (activeAppender == null || Slf4JLogger.class.getName().equals(activeAppender)) {
+            P6SpyOptions.getActiveInstance().setAppender(SqlLogAppender.class.getName());
+            return;
+        }
+        if (!SqlLogAppender.class.getName().equals(activeAppender)) {
+            log.warn("P6Spy appender 가 별도로 설정되어 있어 SQL 로그 기록 정책(sql.log.mode)을 적용하지 않습니다. (appender: {})", activeAppender);
+        }
     }
 
     /**
      * 로그 출력 형식 정의
+     * - [category] | elapsed ms | sql
      */
     @Override
     public String formatMessage(int connectionId, String now, long elapsed, String category, String prepared, String sql, String url) {
         if (StringUtils.isBlank(sql)) return EMPTY_RESULT;
 
-        String formattedSql = formatSql(category, sql);
-        return String.format(LOG_FORMAT, category, elapsed, formattedSql);
+        String formattedSql = formatSql(category, prepared, sql);
+        return new StringBuilder(formattedSql.length() + category.length() + 24)
+                .append('[').append(category).append("] | ")
+                .append(elapsed).append(" ms | ")
+                .append(formattedSql)
+                .toString();
     }
 
     /**
-     * SQL 구문 형식화 처리
+     * SQL 구문 형식화 처리 (캐시된 prepared SQL 포맷 결과 사용)
      */
-    private String formatSql(String category, String sql) {
+    private String formatSql(String category, String prepared, String sql) {
         if (!Category.STATEMENT.getName().equals(category)) {
             return sql;
         }
 
-        String trimmedSql = sql.trim().toLowerCase(Locale.ROOT);
-        return isDdlStatement(trimmedSql)
-                ? FormatStyle.DDL.getFormatter().format(sql)
-                : FormatStyle.BASIC.getFormatter().format(sql);
+        LruCache<String, SqlTemplate> cache = TEMPLATE_CACHE;
+        if (cache == null || StringUtils.isBlank(prepared)) {
+            return format(sql);
+        }
+
+        SqlTemplate template = cache.get(prepared);
+        if (template == null) {
+            template = SqlTemplate.of(prepared, format(prepared));
+            if (template == null) {
+                return format(sql);
+            }
+            cache.put(prepared, template);
+        }
+
+        String rendered = template.render(sql);
+        return rendered != null ? rendered : format(sql);
     }
 
-    /**
-     * DDL 문 여부 확인
-     */
-    private boolean isDdlStatement(String sql) {
-        return sql.startsWith(DDL_CREATE) || sql.startsWith(DDL_ALTER) || sql.startsWith(DDL_COMMENT);
+    private String format(String sql) {
+        if (FORMAT_STYLE == SqlFormatStyle.COMPACT) {
+            return SqlTemplate.compact(sql);
+        }
+        return SqlFingerprint.isDdl(sql)
+                ? FormatStyle.DDL.getFormatter().format(sql)
+                : FormatStyle.BASIC.getFormatter().format(sql);
     }
 }
@@ -0,0 +1,23 @@
+package com.example.commonmodules.common.config;
+
+import com.example.commonmodules.common.enums.common.SqlFormatStyle;
+import com.example.commonmodules.common.enums.common.SqlLogMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "sql.log")
+public class SqlLogConfig {
+    private SqlFormatStyle formatStyle = SqlFormatStyle.PRETTY;   // SQL 로그 출력 형식
+    private int formatCacheSize = 1024;                           // SQL 형태별 포맷 결과 캐시 크기 (0 이하: 사용하지 않음)
+    private boolean policyEnabled;                                // 기록 정책 appender(SqlLogAppender) 등록 여부 (P6Spy 기본 Slf4j appender 인 경우에만 교체)
+    private SqlLogMode mode = SqlLogMode.ALL;                     // SQL 로그 기록 방식 (actuator sqllog 엔드포인트로 실행 중 변경 가능)
+    private long slowThresholdMs = 1000;                          // SLOW 방식 기준 시간(ms)
+    private int sampleEvery = 100;                                // SAMPLE 방식 기록 비율 (N건 중 1건)
+    private boolean alwaysLogErrors = true;                       // 오류 SQL은 방식과 관계없이 기록
+    private boolean alwaysLogDdl = true;                          // DDL은 방식과 관계없이 기록
+}
@@ -0,0 +1,21 @@
+package com.example.commonmodules.common.config;
+
+import com.example.commonmodules.common.enums.common.ApiLogLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "sql.monitor")
+public class SqlMonitorConfig {
+    private boolean enabled;                                  // HTTP 요청별 SQL 집계 사용 여부
+    private ApiLogLevel summaryLogLevel = ApiLogLevel.DEBUG;  // 요청 종료시 SQL 요약 로그 레벨
+    private int repeatThreshold = 10;                         // 같은 형태의 SQL이 이 횟수 이상 실행되면 N+1 경고 (0 이하: 사용하지 않음)
+    private int maxCapturedSql = 20;                          // 요청별로 보관할 SQL 최대 건수 (느린 요청 로그에 사용)
+    private boolean statsEnabled;                             // SQL 형태(fingerprint)별 누적 통계 사용 여부
+    private int maxFingerprints = 1000;                       // 누적 통계를 관리할 SQL 형태 최대 수 (초과분은 집계하지 않음)
+    private boolean statsMetricsEnabled;                      // SQL 형태별 통계를 Micrometer(sql.statements)로 노출할지 여부
+}
@@ -68,6 +68,13 @@ public class SwaggerConfig {
             - totalPages: 전체 페이지 갯수
             - totalElements: 전체 데이터 갯수
             
+            ### cursor(keyset) paging
+            
+            대용량 목록은 page 대신 cursor 로 조회 (깊은 페이지도 조회 속도 일정)
+            
+            - 요청: size, cursor (첫 페이지는 cursor 없이 요청)
+            - 응답: content, size, hasNext, nextCursor (다음 페이지 요청시 cursor 로 전달)
+            
             ---
             
             ## Token 설명
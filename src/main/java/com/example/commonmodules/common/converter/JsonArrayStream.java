@@ -0,0 +1,144 @@
+package com.example.commonmodules.common.converter;
+
+import com.example.commonmodules.common.enums.common.ApiReturnCode;
+import com.example.commonmodules.common.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * multipart JSON 배열 part 스트리밍 읽기
+ * - 배열 전체를 List 로 만들지 않고 요소를 순서대로 읽어 chunk 단위로 전달 (대량 목록 저장시 메모리 사용량 일정)
+ * - MultipartJackson2HttpMessageConverter 가 생성하며, 한 번만 읽을 수 있음
+ * - 끝까지 읽지 않아도 요청 처리가 끝나면 닫힘 (요청 범위 밖에서 사용시 직접 close)
+ *
+ * <pre>
+ * public ResponseEntity<?> saveList(@RequestPart("data") JsonArrayStream<SampleDto> data,
+ *                                   @RequestPart(value = "files", required = false) List<MultipartFile> files) {
+ *     long saved = data.forEachChunk(sampleService::saveAll);
+ *     ...
+ * }
+ * </pre>
+ *
+ * @param <T> 배열 요소 타입
+ */
+public class JsonArrayStream<T> implements AutoCloseable {
+
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private final SizeLimitedInputStream inputStream;
+    private final int defaultChunkSize;
+
+    private boolean consumed;
+
+    JsonArrayStream(JsonParser parser, ObjectReader reader, SizeLimitedInputStream inputStream, int defaultChunkSize) {
+        this.parser = parser;
+        this.reader = reader;
+        this.inputStream = inputStream;
+        this.defaultChunkSize = defaultChunkSize;
+    }
+
+    /**
+     * 기본 chunk 크기(multipart.json.chunk-size) 단위로 요소 전달
+     *
+     * @param consumer chunk 처리 (전달된 List 는 호출 후 재사용하지 않음)
+     * @return 전체 요소 수
+     */
+    public long forEachChunk(Consumer<List<T>> consumer) {
+        return forEachChunk(defaultChunkSize, consumer);
+    }
+
+    /**
+     * chunk 단위로 요소 전달
+     *
+     * @param chunkSize chunk 크기
+     * @param consumer  chunk 처리 (전달된 List 는 호출 후 재사용하지 않음)
+     * @return 전체 요소 수
+     */
+    public long forEachChunk(int chunkSize, Consumer<List<T>> consumer) {
+        int size = Math.max(1, chunkSize);
+        long total = 0;
+        List<T> chunk = new ArrayList<>(size);
+
+        T item;
+        while ((item = next()) != null) {
+            chunk.add(item);
+            total++;
+            if (chunk.size() >= size) {
+                consumer.accept(chunk);
+                chunk = new ArrayList<>(size);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+        }
+        return total;
+    }
+
+    /**
+     * 요소 단위로 전달
+     *
+     * @param consumer
+     * @return 전체 요소 수
+     */
+    public long forEach(Consumer<T> consumer) {
+        long total = 0;
+        T item;
+        while ((item = next()) != null) {
+            consumer.accept(item);
+            total++;
+        }
+        return total;
+    }
+
+    /**
+     * 다음 요소 조회 (null 요소는 건너뜀)
+     *
+     * @return 더 이상 요소가 없으면 null
+     */
+    private T next() {
+        if (consumed) {
+            return null;
+        }
+
+        try {
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new BusinessException(ApiReturnCode.BAD_REQUEST_TEXT);
+                }
+                if (token != JsonToken.VALUE_NULL) {
+                    return reader.readValue(parser);
+                }
+            }
+            close();
+            return null;
+        } catch (IOException e) {
+            close();
+            throw new BusinessException(inputStream.isExceeded()
+                    ? ApiReturnCode.REQUEST_PART_SIZE_EXCEEDING_ERROR
+                    : ApiReturnCode.BAD_REQUEST_TEXT);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * 읽기 종료 (남은 요소는 읽지 않음, 여러 번 호출 가능)
+     */
+    @Override
+    public void close() {
+        consumed = true;
+        try {
+            parser.close();
+        } catch (IOException e) {
+            // 더 이상 읽지 않는 part 이므로 무시
+        }
+    }
+}
@@ -1,20 +1,140 @@
 package com.example.commonmodules.common.converter;
 
+import com.example.commonmodules.common.config.MultipartJsonConfig;
+import com.example.commonmodules.common.enums.common.ApiReturnCode;
+import com.example.commonmodules.common.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 
 /**
  * "Content-Type: multipart/form-data" 헤더를 지원하는 HTTP 요청 변환기
+ * - multipart.json.max-part-size 설정시 part 크기 제한 (기본: 제한 없음, Content-Length 초과시 읽기 전 거부, 그 외 읽는 도중 초과시 중단)
+ * - JsonArrayStream 타입 part 는 배열을 한 번에 읽지 않고 요소 단위 스트리밍으로 전달 (application/json part 도 지원)
+ * - JsonArrayStream 은 요청 처리가 끝나면 닫히도록 요청 범위 destruction callback 으로 등록
  */
 @Component
 public class MultipartJackson2HttpMessageConverter extends AbstractJackson2HttpMessageConverter {
 
-    public MultipartJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+    private final MultipartJsonConfig multipartJsonConfig;
+
+    public MultipartJackson2HttpMessageConverter(ObjectMapper objectMapper, MultipartJsonConfig multipartJsonConfig) {
         super(objectMapper, MediaType.APPLICATION_OCTET_STREAM);
+        this.multipartJsonConfig = multipartJsonConfig;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        if (isJsonArrayStream(type)) {
+            return mediaType == null
+                    || MediaType.APPLICATION_OCTET_STREAM.includes(mediaType)
+                    || MediaType.APPLICATION_JSON.includes(mediaType);
+        }
+        return super.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+
+        long maxPartSize = multipartJsonConfig.getMaxPartSize().toBytes();
+        long contentLength = inputMessage.getHeaders().getContentLength();
+        if (maxPartSize > 0 && contentLength > maxPartSize) {
+            throw new BusinessException(ApiReturnCode.REQUEST_PART_SIZE_EXCEEDING_ERROR);
+        }
+
+        SizeLimitedInputStream inputStream = new SizeLimitedInputStream(inputMessage.getBody(), maxPartSize);
+        if (isJsonArrayStream(type)) {
+            return readJsonArrayStream(type, contextClass, inputStream, inputMessage);
+        }
+
+        try {
+            return super.read(type, contextClass, new HttpInputMessage() {
+                @Override
+                public InputStream getBody() {
+                    return inputStream;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return inputMessage.getHeaders();
+                }
+            });
+        } catch (IOException | HttpMessageNotReadableException e) {
+            if (inputStream.isExceeded()) {
+                throw new BusinessException(ApiReturnCode.REQUEST_PART_SIZE_EXCEEDING_ERROR);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * JsonArrayStream 생성 (배열 시작 토큰까지만 읽고 나머지는 핸들러에서 읽음)
+     *
+     * @param type         JsonArrayStream&lt;T&gt;
+     * @param contextClass
+     * @param inputStream
+     * @param inputMessage
+     * @return
+     * @throws IOException
+     */
+    private JsonArrayStream<?> readJsonArrayStream(Type type, @Nullable Class<?> contextClass,
+                                                   SizeLimitedInputStream inputStream, HttpInputMessage inputMessage) throws IOException {
+        ResolvableType elementType = ResolvableType.forType(GenericTypeResolver.resolveType(type, contextClass)).getGeneric(0);
+        JavaType javaType = getObjectMapper().getTypeFactory()
+                .constructType(elementType.resolve() != null ? elementType.getType() : Object.class);
+
+        JsonParser parser = getObjectMapper().getFactory().createParser(inputStream);
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new HttpMessageNotReadableException("JSON 배열 형식이 아닙니다.", inputMessage);
+            }
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            if (inputStream.isExceeded()) {
+                throw new BusinessException(ApiReturnCode.REQUEST_PART_SIZE_EXCEEDING_ERROR);
+            }
+            throw e;
+        }
+
+        JsonArrayStream<?> stream = new JsonArrayStream<>(parser, getObjectMapper().readerFor(javaType), inputStream,
+                multipartJsonConfig.getChunkSize());
+        registerClose(stream);
+        return stream;
+    }
+
+    /**
+     * 핸들러가 끝까지 읽지 않은 경우에도 parser/요청 스트림이 닫히도록 요청 완료시 close 등록
+     *
+     * @param stream
+     */
+    private void registerClose(JsonArrayStream<?> stream) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.registerDestructionCallback(
+                    JsonArrayStream.class.getName() + "@" + System.identityHashCode(stream),
+                    stream::close, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private boolean isJsonArrayStream(Type type) {
+        return JsonArrayStream.class.equals(ResolvableType.forType(type).resolve());
     }
 
     @Override
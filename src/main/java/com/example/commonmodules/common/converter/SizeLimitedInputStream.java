@@ -0,0 +1,63 @@
+package com.example.commonmodules.common.converter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 최대 크기를 넘으면 읽기를 중단하는 InputStream
+ * - 초과 여부는 isExceeded 로 확인 (Jackson 이 예외를 감싸더라도 원인 구분 가능)
+ */
+class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxSize;
+    private long readSize;
+    private boolean exceeded;
+
+    SizeLimitedInputStream(InputStream in, long maxSize) {
+        super(in);
+        this.maxSize = maxSize;
+    }
+
+    boolean isExceeded() {
+        return exceeded;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void count(long n) throws IOException {
+        readSize += n;
+        if (maxSize > 0 && readSize > maxSize) {
+            exceeded = true;
+            throw new IOException("요청 데이터 크기가 최대 크기(" + maxSize + " bytes)를 초과했습니다.");
+        }
+    }
+}
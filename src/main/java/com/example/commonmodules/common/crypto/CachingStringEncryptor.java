@@ -0,0 +1,102 @@
+package com.example.commonmodules.common.crypto;
+
+import com.example.commonmodules.common.utils.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.jasypt.encryption.StringEncryptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 복호화 결과를 캐시하는 StringEncryptor
+ * - 같은 암호문은 컨텍스트가 유지되는 동안 한 번만 복호화 (속성 재조회 시 PBE 키 생성 비용 제거)
+ * - preload 로 기동 시 암호화된 속성을 병렬로 미리 복호화
+ * - 암호화(encrypt)는 매번 다른 salt 를 사용하므로 캐시하지 않음
+ */
+@Slf4j
+public class CachingStringEncryptor implements StringEncryptor {
+
+    private final StringEncryptor delegate;
+    private final LruCache<String, String> decrypted;
+
+    public CachingStringEncryptor(StringEncryptor delegate, int cacheSize) {
+        this.delegate = delegate;
+        this.decrypted = new LruCache<>(cacheSize);
+    }
+
+    @Override
+    public String encrypt(String message) {
+        return delegate.encrypt(message);
+    }
+
+    @Override
+    public String decrypt(String encryptedMessage) {
+        String message = decrypted.get(encryptedMessage);
+        if (message == null) {
+            message = delegate.decrypt(encryptedMessage);
+            decrypted.put(encryptedMessage, message);
+        }
+        return message;
+    }
+
+    /**
+     * 암호문 병렬 복호화 후 캐시 적재
+     * - 복호화에 실패한 값은 건너뜀 (실제 속성 조회 시 기존과 같이 오류 발생)
+     *
+     * @param encryptedMessages 암호문 목록 (ENC() 제외)
+     * @param parallelism       동시 복호화 스레드 수
+     * @return 복호화된 건수
+     */
+    public int preload(Collection<String> encryptedMessages, int parallelism) {
+        List<String> targets = new ArrayList<>(new LinkedHashSet<>(encryptedMessages));
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, targets.size())), runnable -> {
+            Thread thread = new Thread(runnable, "jasypt-preload-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>(targets.size());
+            for (String target : targets) {
+                futures.add(executor.submit(() -> preload(target)));
+            }
+
+            int loaded = 0;
+            for (Future<Boolean> future : futures) {
+                if (future.get()) {
+                    loaded++;
+                }
+            }
+            return loaded;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return decrypted.size();
+        } catch (ExecutionException e) {
+            return decrypted.size();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean preload(String encryptedMessage) {
+        try {
+            decrypt(encryptedMessage);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("암호화 속성 사전 복호화 실패 ({})", e.getClass().getSimpleName());
+            return false;
+        }
+    }
+}
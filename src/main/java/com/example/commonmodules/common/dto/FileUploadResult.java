@@ -10,4 +10,5 @@ public class FileUploadResult {
     private String saveFileNm;      // 저장파일명
     private String filePath;        // 파일경로
     private long fileSize;          // 파일크기
+    private String contentHash;     // 파일 내용 해시 (내용 기반 저장시)
 }
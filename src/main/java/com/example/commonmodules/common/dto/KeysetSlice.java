@@ -0,0 +1,15 @@
+package com.example.commonmodules.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class KeysetSlice<T> {
+    private List<T> content;        // 조회 데이터
+    private int size;               // 요청 데이터 갯수
+    private boolean hasNext;        // 다음 데이터 존재 여부
+    private String nextCursor;      // 다음 페이지 조회용 커서 (다음 데이터가 없으면 null)
+}
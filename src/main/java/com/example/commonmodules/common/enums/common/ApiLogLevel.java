@@ -0,0 +1,19 @@
+package com.example.commonmodules.common.enums.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그 레벨 (느린 요청 기준 미만 API 로그, 요청별 SQL 요약 로그 등)
+ */
+@RequiredArgsConstructor
+@Getter
+public enum ApiLogLevel {
+
+    INFO("INFO 레벨로 기록"),
+    DEBUG("DEBUG 레벨로 기록"),
+    OFF("기록하지 않음"),
+    ;
+
+    private final String description;
+}
@@ -12,7 +12,9 @@ public enum ApiReturnCode {
 
     /* ==================== 4XX ==================== */
     BAD_REQUEST_TEXT("잘못된 요청 본문 형식입니다.", 400),
+    REQUEST_PART_SIZE_EXCEEDING_ERROR("요청 데이터 크기가 허용 범위를 초과했습니다.", 413),
     INVALID_SORT_FIELD("잘못된 정렬 필드입니다", 400),
+    INVALID_CURSOR("잘못된 커서 값입니다.", 400),
     NO_DATA_ERROR("데이터가 없습니다.", 404),
     NO_URL_ERROR("잘못된 URL 입니다.", 404),
     METHOD_NOT_ALLOWED("해당 요청에 대해 허용되지 않은 HTTP 메서드입니다. (Method Not Allowed)", 405),
@@ -37,6 +39,8 @@ public enum ApiReturnCode {
     NO_FILE_DATA_ERROR("첨부파일이 없습니다.", 404),
     FILE_SIZE_EXCEEDING_ERROR("파일 사이즈(10MB)가 초과되었습니다.", 413),
     FILE_EXTENSION_ERROR("허용된 파일 확장자가 아닙니다.", 415),
+    FILE_CONTENT_ERROR("파일 내용이 확장자와 일치하지 않습니다.", 415),
+    FILE_PATH_UNRESOLVABLE_ERROR("파일명으로 저장 경로를 찾을 수 없습니다.", 404),
 
     /* ==================== 5XX ==================== */
     SERVER_ERROR("서버에서 오류가 발생했습니다.", 500);
@@ -0,0 +1,18 @@
+package com.example.commonmodules.common.enums.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * P6Spy SQL 로그 출력 형식
+ */
+@RequiredArgsConstructor
+@Getter
+public enum SqlFormatStyle {
+
+    PRETTY("Hibernate 포매터로 줄바꿈/들여쓰기하여 출력"),
+    COMPACT("공백을 정리하여 한 줄로 출력"),
+    ;
+
+    private final String description;
+}
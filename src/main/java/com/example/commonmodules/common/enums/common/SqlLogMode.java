@@ -0,0 +1,21 @@
+package com.example.commonmodules.common.enums.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * P6Spy SQL 로그 기록 방식
+ * - 오류/DDL 은 설정에 따라 방식과 관계없이 기록
+ */
+@RequiredArgsConstructor
+@Getter
+public enum SqlLogMode {
+
+    ALL("모든 SQL 기록"),
+    SLOW("기준 시간 이상 걸린 SQL만 기록"),
+    SAMPLE("N건 중 1건 꼴로 기록"),
+    OFF("기록하지 않음"),
+    ;
+
+    private final String description;
+}
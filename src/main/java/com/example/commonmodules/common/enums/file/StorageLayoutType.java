@@ -0,0 +1,91 @@
+package com.example.commonmodules.common.enums.file;
+
+import com.example.commonmodules.common.storage.StorageLayout;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 기본 제공 파일 배치 전략
+ */
+@RequiredArgsConstructor
+@Getter
+public enum StorageLayoutType implements StorageLayout {
+
+    /**
+     * 업로드 타입 디렉토리 바로 아래 저장 (기존 방식)
+     */
+    FLAT("단일 디렉토리") {
+        @Override
+        public Path resolve(Path baseDirectory, String fileName, Instant storedAt) {
+            return baseDirectory.resolve(fileName);
+        }
+    },
+
+    /**
+     * 파일명 앞 4자리로 2단계 분산 저장 (ex. ab/cd/abcd1234.png)
+     */
+    HASH_PREFIX("해시 prefix 분산") {
+        @Override
+        public Path resolve(Path baseDirectory, String fileName, Instant storedAt) {
+            String prefix = hashPrefix(fileName);
+            return baseDirectory.resolve(prefix.substring(0, 2)).resolve(prefix.substring(2, 4)).resolve(fileName);
+        }
+    },
+
+    /**
+     * 저장일자 기준 분산 저장 (ex. 2025/01/31/abcd1234.png)
+     */
+    DATE("저장일자 분산") {
+        @Override
+        public Path resolve(Path baseDirectory, String fileName, Instant storedAt) {
+            LocalDate date = LocalDate.ofInstant(storedAt, ZoneId.systemDefault());
+            return baseDirectory
+                    .resolve(String.valueOf(date.getYear()))
+                    .resolve(twoDigits(date.getMonthValue()))
+                    .resolve(twoDigits(date.getDayOfMonth()))
+                    .resolve(fileName);
+        }
+
+        @Override
+        public boolean isDeterministic() {
+            return false;
+        }
+    },
+    ;
+
+    private static final int PREFIX_LENGTH = 4;
+
+    private final String codeName;
+
+    /**
+     * 파일명 앞 4자리 (UUID, 해시 파일명은 그대로 사용하고 그 외 파일명은 해시값 사용)
+     *
+     * @param fileName
+     * @return
+     */
+    private static String hashPrefix(String fileName) {
+        if (fileName.length() > PREFIX_LENGTH && isLowerHex(fileName, PREFIX_LENGTH)) {
+            return fileName.substring(0, PREFIX_LENGTH);
+        }
+        return String.format("%08x", fileName.hashCode()).substring(0, PREFIX_LENGTH);
+    }
+
+    private static boolean isLowerHex(String value, int length) {
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String twoDigits(int value) {
+        return value < 10 ? "0" + value : String.valueOf(value);
+    }
+}
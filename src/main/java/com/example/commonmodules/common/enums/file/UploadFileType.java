@@ -1,42 +1,162 @@
 package com.example.commonmodules.common.enums.file;
 
+import com.example.commonmodules.common.storage.UploadCategory;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
-@RequiredArgsConstructor
+/**
+ * 기본 제공 업로드 분류
+ * - 허용 확장자 Set / 확장자 문자열 목록은 생성 시 한 번만 계산
+ */
 @Getter
-public enum UploadFileType {
+public enum UploadFileType implements UploadCategory {
 
-    SAMPLE("/sample", "샘플 파일", Arrays.asList(FileExtType.PNG, FileExtType.JPG, FileExtType.JPEG)),
-    USER("/user", "사용자 프로필 이미지 파일", Arrays.asList(FileExtType.PNG, FileExtType.JPG, FileExtType.JPEG)),
+    SAMPLE("/sample", "샘플 파일", List.of(FileExtType.PNG, FileExtType.JPG, FileExtType.JPEG)),
+    USER("/user", "사용자 프로필 이미지 파일", List.of(FileExtType.PNG, FileExtType.JPG, FileExtType.JPEG)),
     ;
 
     private final String code;
     private final String codeName;
     private final List<FileExtType> fileExtTypes;
+    private final Set<FileExtType> allowedExtTypes;
+    @Getter(AccessLevel.NONE)
+    private final List<String> fileExtNames;
+
+    UploadFileType(String code, String codeName, List<FileExtType> fileExtTypes) {
+        this.code = code;
+        this.codeName = codeName;
+        this.fileExtTypes = fileExtTypes;
+        this.allowedExtTypes = Collections.unmodifiableSet(EnumSet.copyOf(fileExtTypes));
+        this.fileExtNames = fileExtTypes.stream().map(FileExtType::getFileExt).toList();
+    }
 
     /**
      * 파일 타입 목록
      *
-     * @return
+     * @return 미리 계산된 변경 불가 목록
      */
     public List<String> getFileExtTypes() {
-        return fileExtTypes.stream().map(FileExtType::getFileExt).collect(Collectors.toList());
+        return fileExtNames;
     }
 
     @RequiredArgsConstructor
     @Getter
     public enum FileExtType {
-        PNG("png"),
-        JPG("jpg"),
-        JPEG("jpeg"),
-        PDF("pdf"),
+        PNG("png", signatures(new int[]{0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A})),
+        JPG("jpg", signatures(new int[]{0xFF, 0xD8, 0xFF})),
+        JPEG("jpeg", signatures(new int[]{0xFF, 0xD8, 0xFF})),
+        PDF("pdf", signatures(new int[]{0x25, 0x50, 0x44, 0x46, 0x2D})),  // %PDF-
         ;
 
-        private final String fileExt;
+        private final String fileExt;       // 소문자
+        private final byte[][] signatures;  // 파일 앞부분 magic byte (하나라도 일치하면 해당 형식, 없으면 내용 검사 안 함)
+
+        // 확장자 길이별 후보 (조회시 같은 길이의 확장자만 비교)
+        private static final FileExtType[][] BY_LENGTH;
+
+        // 같은 형식(signature 동일)의 대표 확장자 (ex. JPEG -> JPG)
+        private static final FileExtType[] CANONICAL = new FileExtType[values().length];
+
+        static {
+            for (FileExtType fileExtType : values()) {
+                CANONICAL[fileExtType.ordinal()] = Arrays.stream(values())
+                        .filter(candidate -> fileExtType.signatures.length > 0
+                                && Arrays.deepEquals(candidate.signatures, fileExtType.signatures))
+                        .findFirst()
+                        .orElse(fileExtType);
+            }
+
+            int maxLength = 0;
+            for (FileExtType fileExtType : values()) {
+                maxLength = Math.max(maxLength, fileExtType.fileExt.length());
+            }
+
+            BY_LENGTH = new FileExtType[maxLength + 1][];
+            for (int length = 0; length <= maxLength; length++) {
+                int finalLength = length;
+                BY_LENGTH[length] = Arrays.stream(values())
+                        .filter(fileExtType -> fileExtType.fileExt.length() == finalLength)
+                        .toArray(FileExtType[]::new);
+            }
+        }
+
+        /**
+         * 같은 형식의 대표 확장자 (JPG/JPEG 처럼 signature 가 같은 확장자는 먼저 선언된 확장자로 통일)
+         *
+         * @return
+         */
+        public FileExtType getCanonical() {
+            return CANONICAL[ordinal()];
+        }
+
+        /**
+         * 확장자로 조회 (대소문자 구분 없음)
+         *
+         * @param fileExt
+         * @return 해당하는 확장자가 없으면 null
+         */
+        public static FileExtType fromFileExt(CharSequence fileExt) {
+            return fileExt != null ? find(fileExt, 0) : null;
+        }
+
+        /**
+         * 파일명의 마지막 '.' 뒤 확장자로 조회 (대소문자 구분 없음, 문자열 생성 없음)
+         *
+         * @param fileName
+         * @return 확장자가 없거나 해당하는 확장자가 없으면 null
+         */
+        public static FileExtType fromFileName(CharSequence fileName) {
+            if (fileName == null) {
+                return null;
+            }
+
+            for (int i = fileName.length() - 1; i >= 0; i--) {
+                if (fileName.charAt(i) == '.') {
+                    return find(fileName, i + 1);
+                }
+            }
+            return null;
+        }
+
+        private static FileExtType find(CharSequence source, int start) {
+            int length = source.length() - start;
+            if (length <= 0 || length >= BY_LENGTH.length) {
+                return null;
+            }
+
+            for (FileExtType fileExtType : BY_LENGTH[length]) {
+                if (equalsIgnoreCase(source, start, fileExtType.fileExt)) {
+                    return fileExtType;
+                }
+            }
+            return null;
+        }
+
+        private static boolean equalsIgnoreCase(CharSequence source, int start, String lowerCaseExt) {
+            for (int i = 0; i < lowerCaseExt.length(); i++) {
+                if (Character.toLowerCase(source.charAt(start + i)) != lowerCaseExt.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static byte[][] signatures(int[]... signatures) {
+            byte[][] bytes = new byte[signatures.length][];
+            for (int i = 0; i < signatures.length; i++) {
+                bytes[i] = new byte[signatures[i].length];
+                for (int j = 0; j < signatures[i].length; j++) {
+                    bytes[i][j] = (byte) signatures[i][j];
+                }
+            }
+            return bytes;
+        }
     }
 }
@@ -0,0 +1,19 @@
+package com.example.commonmodules.common.enums.file;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 파일 저장 방식
+ */
+@RequiredArgsConstructor
+@Getter
+public enum UploadTransferMode {
+
+    COPY("InputStream 복사 (기존 방식)"),
+    TRANSFER("MultipartFile.transferTo 로 임시파일 이동"),
+    STREAM("FileChannel 기반 스트리밍 저장"),
+    ;
+
+    private final String description;
+}
@@ -14,4 +14,17 @@ public class BusinessException extends RuntimeException {
     public BusinessException(ApiReturnCode apiReturnCode) {
         this.apiReturnCode = apiReturnCode;
     }
+
+    /**
+     * 스택 트레이스 생성 여부를 지정하는 생성자 (StacklessBusinessException 용)
+     *
+     * @param apiReturnCode
+     * @param message
+     * @param writableStackTrace false 이면 스택 트레이스를 만들지 않음
+     */
+    protected BusinessException(ApiReturnCode apiReturnCode, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.apiReturnCode = apiReturnCode;
+        this.message = message;
+    }
 }
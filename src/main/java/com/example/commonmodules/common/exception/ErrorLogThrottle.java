@@ -0,0 +1,89 @@
+package com.example.commonmodules.common.exception;
+
+import com.example.commonmodules.common.config.ErrorLoggingConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 같은 오류 로그 건수 제한
+ * - 예외 클래스 + 메시지 형태(ErrorMessageNormalizer, 숫자/따옴표 값 제외)가 같으면 같은 오류로 보고 구간(error.logging.interval)마다 최대 N건만 기록
+ * - 생략된 건수는 다음 구간의 첫 로그에 함께 표시
+ */
+@Component
+@RequiredArgsConstructor
+public class ErrorLogThrottle {
+
+    /**
+     * 로그를 생략해야 하는 경우 acquire 반환값
+     */
+    public static final long SUPPRESSED = -1;
+
+    private static final int MAX_MESSAGE_LENGTH = 256;
+
+    private final ErrorLoggingConfig errorLoggingConfig;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    private static final class Window {
+        private final AtomicLong startedAt;
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Window(long startedAt) {
+            this.startedAt = new AtomicLong(startedAt);
+        }
+    }
+
+    /**
+     * 로그 기록 가능 여부
+     *
+     * @param ex
+     * @return 기록 가능하면 이전 구간에서 생략된 건수(0 이상), 생략해야 하면 SUPPRESSED
+     */
+    public long acquire(Throwable ex) {
+        int maxPerInterval = errorLoggingConfig.getMaxPerInterval();
+        if (maxPerInterval <= 0) {
+            return 0;
+        }
+
+        String key = keyOf(ex);
+        long now = System.nanoTime();
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= errorLoggingConfig.getMaxKeys()) {
+                windows.clear();
+            }
+            window = windows.computeIfAbsent(key, k -> new Window(now));
+        }
+
+        // 구간이 지나면 새 구간 시작 (동시에 여러 스레드가 들어와도 한 스레드만 초기화)
+        long startedAt = window.startedAt.get();
+        long previousSuppressed = 0;
+        if (now - startedAt >= errorLoggingConfig.getInterval().toNanos() && window.startedAt.compareAndSet(startedAt, now)) {
+            window.count.set(0);
+            previousSuppressed = window.suppressed.getAndSet(0);
+        }
+
+        if (window.count.incrementAndGet() > maxPerInterval) {
+            window.suppressed.incrementAndGet();
+            return SUPPRESSED;
+        }
+        return previousSuppressed;
+    }
+
+    private static String keyOf(Throwable ex) {
+        String message = ex.getMessage();
+        if (message == null) {
+            return ex.getClass().getName();
+        }
+        if (message.length() > MAX_MESSAGE_LENGTH) {
+            message = message.substring(0, MAX_MESSAGE_LENGTH);
+        }
+        return ex.getClass().getName() + ":" + ErrorMessageNormalizer.normalize(message);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.commonmodules.common.exception;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 오류 메시지 형태 추출 util (같은 오류 판단용)
+ * - 숫자가 포함된 단어(id, UUID, 시각 등)는 ? 로 치환 (ex. "user 123 not found" -> "user ? not found")
+ * - 따옴표('...', "...")로 감싼 값은 ? 로 치환 (단어 중간의 ' 는 문자 그대로 유지, ex. can't)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE) // 인스턴스화 방지를 위한 private 생성자
+public final class ErrorMessageNormalizer {
+
+    /**
+     * 메시지 형태 추출
+     *
+     * @param message
+     * @return
+     */
+    public static String normalize(String message) {
+        if (message == null) {
+            return "";
+        }
+
+        int length = message.length();
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            char c = message.charAt(i);
+
+            if ((c == '\'' || c == '"') && (i == 0 || !Character.isLetterOrDigit(message.charAt(i - 1)))) {
+                int end = message.indexOf(c, i + 1);
+                if (end > 0) {
+                    sb.append('?');
+                    i = end;
+                    continue;
+                }
+            }
+
+            if (isWordPart(c)) {
+                int end = i;
+                boolean hasDigit = false;
+                while (end < length && isWordPart(message.charAt(end))) {
+                    hasDigit |= isDigit(message.charAt(end));
+                    end++;
+                }
+                if (hasDigit) {
+                    sb.append('?');
+                } else {
+                    sb.append(message, i, end);
+                }
+                i = end - 1;
+                continue;
+            }
+
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static boolean isWordPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.commonmodules.common.exception;
+
+import com.example.commonmodules.common.config.ErrorLoggingConfig;
+import com.example.commonmodules.common.enums.common.ApiReturnCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오류 응답 건수 Micrometer Counter 기록
+ * - 태그: code(ApiReturnCode), status, uri(URI 템플릿), exception
+ * - uri 태그는 요청 URI가 아닌 매핑된 URI 템플릿을 사용하고, 개수는 error.logging.max-uri-tags 로 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ErrorMetricsRecorder {
+
+    public static final String METRIC_NAME = "api.errors";
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final String NONE = "NONE";
+    private static final int MAX_CACHED_COUNTERS = 10_000;
+
+    private final ErrorLoggingConfig errorLoggingConfig;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final Map<CounterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    private MeterRegistry meterRegistry;
+
+    private record CounterKey(String code, int status, String uri, String exception) {
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!errorLoggingConfig.isMetricsEnabled()) {
+            return;
+        }
+
+        meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (meterRegistry == null) {
+            return;
+        }
+
+        meterRegistry.config().meterFilter(
+                MeterFilter.maximumAllowableTags(METRIC_NAME, "uri", errorLoggingConfig.getMaxUriTags(), MeterFilter.deny()));
+    }
+
+    /**
+     * 오류 응답 건수 기록
+     *
+     * @param request
+     * @param apiReturnCode 응답 코드 (없으면 null)
+     * @param status        HTTP 상태 코드
+     * @param ex
+     */
+    public void record(HttpServletRequest request, ApiReturnCode apiReturnCode, int status, Throwable ex) {
+        if (meterRegistry == null) {
+            return;
+        }
+
+        CounterKey key = new CounterKey(
+                apiReturnCode != null ? apiReturnCode.name() : NONE,
+                status,
+                getUriTemplate(request),
+                ex.getClass().getSimpleName());
+
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            counter = Counter.builder(METRIC_NAME)
+                    .description("API 오류 응답 건수")
+                    .tags("code", key.code(),
+                            "status", String.valueOf(key.status()),
+                            "uri", key.uri(),
+                            "exception", key.exception())
+                    .register(meterRegistry);
+            if (counters.size() < MAX_CACHED_COUNTERS) {
+                counters.putIfAbsent(key, counter);
+            }
+        }
+        counter.increment();
+    }
+
+    private String getUriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.commonmodules.common.exception;
+
+import com.example.commonmodules.common.enums.common.ApiReturnCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 고정 메시지 오류 응답(ApiReturnCode 기본 메시지) 직렬화
+ * - ApiReturnCode 별 JSON 응답을 path/timestamp 앞뒤 조각(UTF-8)으로 미리 만들어 두고, 요청마다 path/timestamp 만 끼워 넣음
+ * - 조각은 애플리케이션 ObjectMapper 로 직렬화한 결과에서 잘라내며, 기동 시 ObjectMapper 결과와 바이트 단위로 같은지 검증
+ * - 검증에 실패하면(날짜 직렬화 설정 변경 등) 사용하지 않고 기존 방식(ExceptionMsg 직렬화)으로 응답
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ErrorResponseWriter {
+
+    private static final String PATH_MARKER = "__ERROR_RESPONSE_PATH__";
+    private static final LocalDateTime MARKER_TIMESTAMP = LocalDateTime.of(2000, 1, 2, 3, 4, 5, 123_456_789);
+
+    // 검증용 값 (escape 대상 문자, 초/나노초 생략 형식 포함)
+    private static final String VERIFY_PATH = "/검증/\"path\"\\\t?q=<1>&r=\u0001";
+    private static final LocalDateTime VERIFY_TIMESTAMP = LocalDateTime.of(2024, 12, 31, 23, 59);
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<ApiReturnCode, Template> templates = new EnumMap<>(ApiReturnCode.class);
+
+    /**
+     * 미리 만든 응답 조각
+     *
+     * @param head   path 값 앞부분 (여는 따옴표 포함)
+     * @param middle path 값과 timestamp 값 사이 (따옴표 포함)
+     * @param tail   timestamp 값 뒷부분 (닫는 따옴표 포함)
+     */
+    private record Template(byte[] head, byte[] middle, byte[] tail) {
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            for (ApiReturnCode apiReturnCode : ApiReturnCode.values()) {
+                Template template = createTemplate(apiReturnCode);
+                if (template == null || !verify(apiReturnCode, template)) {
+                    templates.clear();
+                    log.warn("오류 응답 사전 직렬화 결과가 ObjectMapper 와 달라 사용하지 않습니다. ({})", apiReturnCode);
+                    return;
+                }
+                templates.put(apiReturnCode, template);
+            }
+        } catch (JsonProcessingException e) {
+            templates.clear();
+            log.warn("오류 응답 사전 직렬화 준비 중 오류가 발생하여 사용하지 않습니다. ({})", e.getMessage());
+        }
+    }
+
+    /**
+     * 사전 직렬화 응답 사용 가능 여부
+     *
+     * @param apiReturnCode
+     * @return
+     */
+    public boolean supports(ApiReturnCode apiReturnCode) {
+        return templates.containsKey(apiReturnCode);
+    }
+
+    /**
+     * ApiReturnCode 기본 메시지 오류 응답 JSON(UTF-8) 생성
+     * - ExceptionMsg.of(apiReturnCode, path) 를 ObjectMapper 로 직렬화한 결과와 동일
+     *
+     * @param apiReturnCode
+     * @param path
+     * @return supports(apiReturnCode) 가 false 이거나 path 가 null 이면 null
+     */
+    public byte[] write(ApiReturnCode apiReturnCode, String path) {
+        return write(apiReturnCode, path, LocalDateTime.now());
+    }
+
+    private byte[] write(ApiReturnCode apiReturnCode, String path, LocalDateTime timestamp) {
+        Template template = templates.get(apiReturnCode);
+        if (template == null || path == null) {
+            return null;
+        }
+
+        byte[] pathBytes = JsonStringEncoder.getInstance().quoteAsUTF8(path);
+        byte[] timestampBytes = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp).getBytes(StandardCharsets.US_ASCII);
+
+        byte[] body = new byte[template.head().length + pathBytes.length + template.middle().length
+                + timestampBytes.length + template.tail().length];
+        int offset = 0;
+        offset = append(body, offset, template.head());
+        offset = append(body, offset, pathBytes);
+        offset = append(body, offset, template.middle());
+        offset = append(body, offset, timestampBytes);
+        append(body, offset, template.tail());
+        return body;
+    }
+
+    private int append(byte[] target, int offset, byte[] source) {
+        System.arraycopy(source, 0, target, offset, source.length);
+        return offset + source.length;
+    }
+
+    /**
+     * ObjectMapper 직렬화 결과에서 path/timestamp 위치를 찾아 앞뒤 조각 생성
+     *
+     * @param apiReturnCode
+     * @return path 가 timestamp 보다 앞에 있지 않은 등 조각을 만들 수 없는 경우 null
+     * @throws JsonProcessingException
+     */
+    private Template createTemplate(ApiReturnCode apiReturnCode) throws JsonProcessingException {
+        String json = objectMapper.writeValueAsString(ExceptionMsg.of(apiReturnCode, PATH_MARKER, MARKER_TIMESTAMP));
+
+        String quotedPath = "\"" + PATH_MARKER + "\"";
+        String quotedTimestamp = "\"" + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(MARKER_TIMESTAMP) + "\"";
+        int pathIndex = json.indexOf(quotedPath);
+        int timestampIndex = json.indexOf(quotedTimestamp);
+        if (pathIndex < 0 || timestampIndex < pathIndex + quotedPath.length()) {
+            return null;
+        }
+
+        return new Template(
+                json.substring(0, pathIndex + 1).getBytes(StandardCharsets.UTF_8),
+                json.substring(pathIndex + quotedPath.length() - 1, timestampIndex + 1).getBytes(StandardCharsets.UTF_8),
+                json.substring(timestampIndex + quotedTimestamp.length() - 1).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean verify(ApiReturnCode apiReturnCode, Template template) throws JsonProcessingException {
+        templates.put(apiReturnCode, template);
+        try {
+            byte[] expected = objectMapper.writeValueAsBytes(ExceptionMsg.of(apiReturnCode, VERIFY_PATH, VERIFY_TIMESTAMP));
+            return Arrays.equals(expected, write(apiReturnCode, VERIFY_PATH, VERIFY_TIMESTAMP));
+        } finally {
+            templates.remove(apiReturnCode);
+        }
+    }
+}
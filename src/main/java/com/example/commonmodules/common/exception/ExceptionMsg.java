@@ -1,5 +1,6 @@
 package com.example.commonmodules.common.exception;
 
+import com.example.commonmodules.common.enums.common.ApiReturnCode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,4 +26,58 @@ public class ExceptionMsg {
 
     @Schema(description = "ErrorMessage")
     private String errorMessage;
+
+    /**
+     * ApiReturnCode 기본 메시지로 오류 응답 생성
+     *
+     * @param apiReturnCode
+     * @param path
+     * @return
+     */
+    public static ExceptionMsg of(ApiReturnCode apiReturnCode, String path) {
+        return of(apiReturnCode.getCode(), apiReturnCode.getMessage(), path);
+    }
+
+    /**
+     * 오류 응답 생성
+     *
+     * @param errorCode
+     * @param errorMessage
+     * @param path
+     * @return
+     */
+    public static ExceptionMsg of(int errorCode, String errorMessage, String path) {
+        return of(errorCode, errorMessage, path, LocalDateTime.now());
+    }
+
+    /**
+     * ApiReturnCode 기본 메시지로 오류 응답 생성 (발생 시각 지정)
+     *
+     * @param apiReturnCode
+     * @param path
+     * @param timestamp
+     * @return
+     */
+    public static ExceptionMsg of(ApiReturnCode apiReturnCode, String path, LocalDateTime timestamp) {
+        return of(apiReturnCode.getCode(), apiReturnCode.getMessage(), path, timestamp);
+    }
+
+    /**
+     * 오류 응답 생성 (발생 시각 지정)
+     *
+     * @param errorCode
+     * @param errorMessage
+     * @param path
+     * @param timestamp
+     * @return
+     */
+    public static ExceptionMsg of(int errorCode, String errorMessage, String path, LocalDateTime timestamp) {
+        return ExceptionMsg.builder()
+                .success(false)
+                .path(path)
+                .timestamp(timestamp)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
 }
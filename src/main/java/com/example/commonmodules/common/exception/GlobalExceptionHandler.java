@@ -11,6 +11,7 @@ import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -26,8 +27,10 @@ import org.springframework.web.server.UnsupportedMediaTypeStatusException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import java.nio.file.AccessDeniedException;
-import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -41,6 +44,16 @@ import java.util.stream.Collectors;
 })
 public class GlobalExceptionHandler {
 
+    private static final long STACK_TRACE_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int MAX_STACK_TRACE_KEYS = 1_000;
+
+    private final ErrorLogThrottle errorLogThrottle;
+    private final ErrorMetricsRecorder errorMetricsRecorder;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    // 예외별 마지막 스택 트레이스 출력 시각
+    private final Map<String, Long> stackTraceLoggedAt = new ConcurrentHashMap<>();
+
     /**
      * RuntimeException 발생시 처리 핸들러
      *
@@ -49,17 +62,8 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ExceptionMsg> handleRuntimeException(HttpServletRequest request, RuntimeException ex) {
-        log.error(ex.getMessage(), ex);
-
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .errorMessage(String.format("%s [%s]", ApiReturnCode.SERVER_ERROR.getMessage(), ex.getMessage()))
-                .build();
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(exceptionMsg);
+        String errorMessage = ApiReturnCode.SERVER_ERROR.getMessage() + " [" + ex.getMessage() + "]";
+        return respond(request, ex, HttpStatus.INTERNAL_SERVER_ERROR, ApiReturnCode.SERVER_ERROR, errorMessage, true);
     }
 
     /**
@@ -70,17 +74,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(IllegalAccessException.class)
     public ResponseEntity<ExceptionMsg> handleIllegalAccessException(HttpServletRequest request, IllegalAccessException ex) {
-        log.error(ex.getMessage(), ex);
-
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(HttpStatus.BAD_REQUEST.value())
-                .errorMessage(ex.getMessage())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionMsg);
+        return respond(request, ex, HttpStatus.BAD_REQUEST, null, ex.getMessage(), true);
     }
 
     /**
@@ -96,15 +90,7 @@ public class GlobalExceptionHandler {
                 .map(error -> "[" + error.getField() + "] " + error.getDefaultMessage())
                 .collect(Collectors.joining(", "));
 
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(HttpStatus.BAD_REQUEST.value())
-                .errorMessage(errorMessage)
-                .build();
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionMsg);
+        return respond(request, ex, HttpStatus.BAD_REQUEST, null, errorMessage, false);
     }
 
     /**
@@ -117,16 +103,9 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ExceptionMsg> handleConstraintViolationException(HttpServletRequest request, ConstraintViolationException ex) {
 
         Set<ConstraintViolation<?>> violations = ex.getConstraintViolations();
+        String errorMessage = violations.stream().map(ConstraintViolation::getMessage).collect(Collectors.joining(", "));
 
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(HttpStatus.BAD_REQUEST.value())
-                .errorMessage(violations.stream().map(ConstraintViolation::getMessage).collect(Collectors.joining(", ")))
-                .build();
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionMsg);
+        return respond(request, ex, HttpStatus.BAD_REQUEST, null, errorMessage, false);
     }
 
     /**
@@ -141,15 +120,7 @@ public class GlobalExceptionHandler {
         String errorMessage = String.format("'%s' 값은 잘못된 형식입니다. %s 타입이어야 합니다.",
                 ex.getValue(), ex.getRequiredType().getSimpleName());
 
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(HttpStatus.BAD_REQUEST.value())
-                .errorMessage(errorMessage)
-                .build();
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionMsg);
+        return respond(request, ex, HttpStatus.BAD_REQUEST, null, errorMessage, false);
     }
 
     /**
@@ -160,16 +131,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(MissingServletRequestParameterException.class)
     public ResponseEntity<ExceptionMsg> handleMissingParams(HttpServletRequest request, MissingServletRequestParameterException ex) {
-
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(HttpStatus.BAD_REQUEST.value())
-                .errorMessage(ex.getParameterName() + " 파라미터는 필수값입니다.")
-                .build();
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionMsg);
+        return respond(request, ex, HttpStatus.BAD_REQUEST, null, ex.getParameterName() + " 파라미터는 필수값입니다.", false);
     }
 
     /**
@@ -179,17 +141,9 @@ public class GlobalExceptionHandler {
      * @return
      */
     @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<ExceptionMsg> handleBusinessException(HttpServletRequest request, BusinessException ex) {
-
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(ex.getApiReturnCode().getCode())
-                .errorMessage(ex.getApiReturnCode().getMessage())
-                .build();
-
-        return ResponseEntity.status(ex.getApiReturnCode().getCode()).body(exceptionMsg);
+    @ApiResponse(responseCode = "default", description = "ApiReturnCode 별 오류", content = @Content(schema = @Schema(implementation = ExceptionMsg.class)))
+    public ResponseEntity<?> handleBusinessException(HttpServletRequest request, BusinessException ex) {
+        return respond(request, ex, ex.getApiReturnCode(), false);
     }
 
     /**
@@ -200,17 +154,9 @@ public class GlobalExceptionHandler {
      * @return
      */
     @ExceptionHandler({NoHandlerFoundException.class})
-    public ResponseEntity<ExceptionMsg> handleNoHandlerFoundException(HttpServletRequest request, Exception ex) {
-
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(ApiReturnCode.NO_URL_ERROR.getCode())
-                .errorMessage(ApiReturnCode.NO_URL_ERROR.getMessage())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exceptionMsg);
+    @ApiResponse(responseCode = "404", description = "잘못된 URL", content = @Content(schema = @Schema(implementation = ExceptionMsg.class)))
+    public ResponseEntity<?> handleNoHandlerFoundException(HttpServletRequest request, Exception ex) {
+        return respond(request, ex, ApiReturnCode.NO_URL_ERROR, false);
     }
 
     /**
@@ -222,17 +168,9 @@ public class GlobalExceptionHandler {
      * @return
      */
     @ExceptionHandler({HttpRequestMethodNotSupportedException.class})
-    public ResponseEntity<ExceptionMsg> handleHttpRequestMethodNotSupportedException(HttpServletRequest request, Exception ex) {
-
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(ApiReturnCode.METHOD_NOT_ALLOWED.getCode())
-                .errorMessage(ApiReturnCode.METHOD_NOT_ALLOWED.getMessage())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(exceptionMsg);
+    @ApiResponse(responseCode = "405", description = "허용되지 않은 HTTP 메서드", content = @Content(schema = @Schema(implementation = ExceptionMsg.class)))
+    public ResponseEntity<?> handleHttpRequestMethodNotSupportedException(HttpServletRequest request, Exception ex) {
+        return respond(request, ex, ApiReturnCode.METHOD_NOT_ALLOWED, false);
     }
 
     /**
@@ -244,17 +182,9 @@ public class GlobalExceptionHandler {
      * @return
      */
     @ExceptionHandler({MissingServletRequestPartException.class})
-    public ResponseEntity<ExceptionMsg> handleMissingFileException(HttpServletRequest request, Exception ex) {
-
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(ApiReturnCode.REQUIRED_FILE_ERROR.getCode())
-                .errorMessage(ApiReturnCode.REQUIRED_FILE_ERROR.getMessage())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionMsg);
+    @ApiResponse(responseCode = "400", description = "필수 첨부파일 누락", content = @Content(schema = @Schema(implementation = ExceptionMsg.class)))
+    public ResponseEntity<?> handleMissingFileException(HttpServletRequest request, Exception ex) {
+        return respond(request, ex, ApiReturnCode.REQUIRED_FILE_ERROR, false);
     }
 
     /**
@@ -266,18 +196,9 @@ public class GlobalExceptionHandler {
      * @return
      */
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    public ResponseEntity<ExceptionMsg> handleHttpMessageNotReadableException(HttpServletRequest request, HttpMessageNotReadableException ex) {
-        log.error(ex.getMessage(), ex);
-
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(ApiReturnCode.BAD_REQUEST_TEXT.getCode())
-                .errorMessage(ApiReturnCode.BAD_REQUEST_TEXT.getMessage())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionMsg);
+    @ApiResponse(responseCode = "400", description = "잘못된 요청 본문 형식", content = @Content(schema = @Schema(implementation = ExceptionMsg.class)))
+    public ResponseEntity<?> handleHttpMessageNotReadableException(HttpServletRequest request, HttpMessageNotReadableException ex) {
+        return respond(request, ex, ApiReturnCode.BAD_REQUEST_TEXT, true);
     }
 
     /**
@@ -289,18 +210,9 @@ public class GlobalExceptionHandler {
      * @return
      */
     @ExceptionHandler(UnsupportedMediaTypeStatusException.class)
-    public ResponseEntity<ExceptionMsg> handleUnsupportedMediaType(HttpServletRequest request, UnsupportedMediaTypeStatusException ex) {
-        log.error(ex.getMessage(), ex);
-
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(ApiReturnCode.UNSUPPORTED_MEDIA_TYPE.getCode())
-                .errorMessage(ApiReturnCode.UNSUPPORTED_MEDIA_TYPE.getMessage())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(exceptionMsg);
+    @ApiResponse(responseCode = "415", description = "지원하지 않는 미디어 타입", content = @Content(schema = @Schema(implementation = ExceptionMsg.class)))
+    public ResponseEntity<?> handleUnsupportedMediaType(HttpServletRequest request, UnsupportedMediaTypeStatusException ex) {
+        return respond(request, ex, ApiReturnCode.UNSUPPORTED_MEDIA_TYPE, true);
     }
 
     /**
@@ -312,18 +224,9 @@ public class GlobalExceptionHandler {
      * @return
      */
     @ExceptionHandler(AccessDeniedException.class)
-    public ResponseEntity<ExceptionMsg> handleAccessDeniedException(HttpServletRequest request, AccessDeniedException ex) {
-        log.error(ex.getMessage(), ex);
-
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(ApiReturnCode.FORBIDDEN_ERROR.getCode())
-                .errorMessage(ApiReturnCode.FORBIDDEN_ERROR.getMessage())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(exceptionMsg);
+    @ApiResponse(responseCode = "403", description = "접근 권한 없음", content = @Content(schema = @Schema(implementation = ExceptionMsg.class)))
+    public ResponseEntity<?> handleAccessDeniedException(HttpServletRequest request, AccessDeniedException ex) {
+        return respond(request, ex, ApiReturnCode.FORBIDDEN_ERROR, true);
     }
 
     /**
@@ -335,7 +238,6 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
     public ResponseEntity<ExceptionMsg> handleHttpMediaTypeNotSupportedException(HttpServletRequest request, HttpMediaTypeNotSupportedException ex) {
-        log.error(ex.getMessage(), ex);
 
         String unsupportedType = ex.getContentType() != null ? ex.getContentType().toString() : "null";
         String supportedTypes = ex.getSupportedMediaTypes().stream()
@@ -345,15 +247,7 @@ public class GlobalExceptionHandler {
         String errorMessage = "지원되지 않는 Content-Type입니다: " + unsupportedType +
                 ". 사용 가능한 타입: " + supportedTypes;
 
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(ApiReturnCode.UNSUPPORTED_MEDIA_TYPE.getCode())
-                .errorMessage(errorMessage)
-                .build();
-
-        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(exceptionMsg);
+        return respond(request, ex, HttpStatus.UNSUPPORTED_MEDIA_TYPE, ApiReturnCode.UNSUPPORTED_MEDIA_TYPE, errorMessage, true);
     }
 
     /**
@@ -365,16 +259,108 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(InvalidSortFieldException.class)
     public ResponseEntity<ExceptionMsg> handleInvalidSortFieldException(HttpServletRequest request, InvalidSortFieldException ex) {
-        log.error(ex.getMessage(), ex);
+        return respond(request, ex, HttpStatus.BAD_REQUEST, ApiReturnCode.INVALID_SORT_FIELD, ex.getMessage(), true);
+    }
+
+    /**
+     * ApiReturnCode 기본 메시지 오류 응답 처리
+     * - 사전 직렬화된 응답(ErrorResponseWriter)을 사용하고, 사용할 수 없으면 ExceptionMsg 로 응답
+     * - 반환 타입이 ResponseEntity<?> 이므로 호출하는 핸들러에 @ApiResponse 로 ExceptionMsg 스키마를 지정
+     *
+     * @param request
+     * @param ex
+     * @param apiReturnCode
+     * @param logged        로그 기록 여부
+     * @return
+     */
+    private ResponseEntity<?> respond(HttpServletRequest request, Exception ex, ApiReturnCode apiReturnCode, boolean logged) {
+        HttpStatusCode status = HttpStatusCode.valueOf(apiReturnCode.getCode());
+        byte[] body = errorResponseWriter.write(apiReturnCode, request.getRequestURI());
+        if (body == null) {
+            return respond(request, ex, status, apiReturnCode, apiReturnCode.getMessage(), logged);
+        }
+
+        errorMetricsRecorder.record(request, apiReturnCode, status.value(), ex);
+        if (logged) {
+            logException(request, ex, status);
+        }
+
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
 
-        ExceptionMsg exceptionMsg = ExceptionMsg.builder()
-                .success(false)
-                .path(request.getRequestURI())
-                .timestamp(LocalDateTime.now())
-                .errorCode(ApiReturnCode.INVALID_SORT_FIELD.getCode())
-                .errorMessage(ex.getMessage())
-                .build();
+    /**
+     * 오류 응답 공통 처리
+     * - 오류 건수 지표 기록 (api.errors)
+     * - logged 인 경우 심각도별 로그 (같은 오류는 error.logging.max-per-interval 건까지만 기록)
+     *
+     * @param request
+     * @param ex
+     * @param status
+     * @param apiReturnCode 응답 코드 (지표 태그용, 없으면 null)
+     * @param errorMessage
+     * @param logged        로그 기록 여부
+     * @return
+     */
+    private ResponseEntity<ExceptionMsg> respond(HttpServletRequest request, Exception ex, HttpStatusCode status,
+                                                 ApiReturnCode apiReturnCode, String errorMessage, boolean logged) {
+        errorMetricsRecorder.record(request, apiReturnCode, status.value(), ex);
+        if (logged) {
+            logException(request, ex, status);
+        }
+
+        return ResponseEntity.status(status).body(ExceptionMsg.of(status.value(), errorMessage, request.getRequestURI()));
+    }
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionMsg);
+    /**
+     * 심각도별 예외 로그
+     * - 4xx: 클라이언트 오류이므로 스택 트레이스 없이 한 줄로 WARN
+     * - 5xx: ERROR, 같은 예외(클래스 + 발생 위치)의 스택 트레이스는 1분에 한 번만 출력
+     * - 같은 오류가 구간 내 제한 건수를 넘으면 기록하지 않고, 생략 건수는 다음 구간 첫 로그에 표시
+     *
+     * @param request
+     * @param ex
+     * @param status
+     */
+    private void logException(HttpServletRequest request, Exception ex, HttpStatusCode status) {
+        long suppressed = errorLogThrottle.acquire(ex);
+        if (suppressed == ErrorLogThrottle.SUPPRESSED) {
+            return;
+        }
+        String suppressedSummary = suppressed > 0 ? " (직전 구간 같은 오류 " + suppressed + "건 생략)" : "";
+
+        if (status.is4xxClientError()) {
+            log.warn("[{}] {} {} | {}: {}{}", status.value(), request.getMethod(), request.getRequestURI(),
+                    ex.getClass().getSimpleName(), ex.getMessage(), suppressedSummary);
+            return;
+        }
+
+        if (shouldLogStackTrace(ex)) {
+            log.error(ex.getMessage() + suppressedSummary, ex);
+        } else {
+            log.error("[{}] {} {} | {}: {} (같은 오류의 스택 트레이스 생략){}", status.value(), request.getMethod(),
+                    request.getRequestURI(), ex.getClass().getName(), ex.getMessage(), suppressedSummary);
+        }
+    }
+
+    /**
+     * 같은 예외의 스택 트레이스 출력 여부 (STACK_TRACE_LOG_INTERVAL 마다 한 번)
+     */
+    private boolean shouldLogStackTrace(Exception ex) {
+        StackTraceElement[] stackTrace = ex.getStackTrace();
+        String key = stackTrace.length > 0
+                ? ex.getClass().getName() + "@" + stackTrace[0]
+                : ex.getClass().getName();
+
+        long now = System.nanoTime();
+        Long loggedAt = stackTraceLoggedAt.get(key);
+        if (loggedAt != null && now - loggedAt < STACK_TRACE_LOG_INTERVAL_NANOS) {
+            return false;
+        }
+
+        if (loggedAt == null && stackTraceLoggedAt.size() >= MAX_STACK_TRACE_KEYS) {
+            stackTraceLoggedAt.clear();
+        }
+        stackTraceLoggedAt.put(key, now);
+        return true;
     }
 }
@@ -0,0 +1,45 @@
+package com.example.commonmodules.common.exception;
+
+import com.example.commonmodules.common.enums.common.ApiReturnCode;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 스택 트레이스를 만들지 않는 BusinessException
+ * - 데이터 없음, 입력값 오류 등 정상 흐름에서 자주 발생하는 예상된 오류용 (예외 생성 비용 절감)
+ * - 발생 위치 추적이 필요한 오류에는 BusinessException 사용
+ */
+public class StacklessBusinessException extends BusinessException {
+
+    // 메시지가 없는 예외는 상태가 없으므로 ApiReturnCode 별로 하나만 생성하여 재사용
+    private static final Map<ApiReturnCode, StacklessBusinessException> CACHED = new EnumMap<>(ApiReturnCode.class);
+
+    static {
+        for (ApiReturnCode apiReturnCode : ApiReturnCode.values()) {
+            CACHED.put(apiReturnCode, new StacklessBusinessException(apiReturnCode));
+        }
+    }
+
+    public StacklessBusinessException(ApiReturnCode apiReturnCode) {
+        super(apiReturnCode, null, false);
+    }
+
+    public StacklessBusinessException(ApiReturnCode apiReturnCode, String message) {
+        super(apiReturnCode, message, false);
+    }
+
+    /**
+     * 재사용 예외 조회 (새로 생성하지 않음)
+     *
+     * <pre>
+     * throw StacklessBusinessException.of(ApiReturnCode.NO_DATA_ERROR);
+     * </pre>
+     *
+     * @param apiReturnCode
+     * @return
+     */
+    public static StacklessBusinessException of(ApiReturnCode apiReturnCode) {
+        return CACHED.get(apiReturnCode);
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.commonmodules.common.jpa;
+
+import com.example.commonmodules.common.config.JpaBatchConfig;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.SimpleExpression;
+import com.querydsl.jpa.impl.JPADeleteClause;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 대량 등록/수정/삭제 util
+ * - persist 는 jpa.batch.size 건마다 flush 후 등록한 엔티티만 detach 하여 영속성 컨텍스트가 커지지 않도록 함
+ * - QueryDSL update/delete 는 영속성 컨텍스트를 거치지 않으므로 실행 전 flush, 실행 후 대상 엔티티 타입만 detach
+ * - 호출한 쪽 트랜잭션에서 조회/변경 중인 다른 엔티티는 영속 상태 유지 (clear 하지 않음)
+ * - 엔티티가 필요 없는 단순 insert 는 JdbcTemplate batch 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaBatchWriter {
+
+    private final JpaBatchConfig jpaBatchConfig;
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 엔티티 목록 등록 (batch 크기마다 flush 후 등록한 엔티티 detach)
+     * - 호출 후 전달한 엔티티는 준영속 상태가 됨
+     *
+     * @param entities
+     * @return 등록 건수
+     */
+    @Transactional
+    public <T> int persistAll(Collection<T> entities) {
+        int batchSize = jpaBatchConfig.getSize();
+        List<T> batch = new ArrayList<>(Math.min(batchSize, entities.size()));
+        int count = 0;
+        for (T entity : entities) {
+            entityManager.persist(entity);
+            batch.add(entity);
+            count++;
+            if (batch.size() == batchSize) {
+                flushAndDetach(batch);
+            }
+        }
+        flushAndDetach(batch);
+        return count;
+    }
+
+    /**
+     * QueryDSL update 실행
+     *
+     * <pre>
+     * jpaBatchWriter.update(sample, update -> update
+     *         .set(sample.useYn, "N")
+     *         .where(sample.sampleSn.in(ids)));
+     * </pre>
+     *
+     * @param entityPath 수정 대상 엔티티 (Q 클래스)
+     * @param clause     set/where 조건 지정 함수
+     * @return 수정 건수
+     */
+    @Transactional
+    public long update(EntityPath<?> entityPath, Function<JPAUpdateClause, JPAUpdateClause> clause) {
+        entityManager.flush();
+        long updated = clause.apply(queryFactory.update(entityPath)).execute();
+        detachAll(entityPath.getType());
+        return updated;
+    }
+
+    /**
+     * QueryDSL delete 실행
+     *
+     * @param entityPath 삭제 대상 엔티티 (Q 클래스)
+     * @param clause     where 조건 지정 함수
+     * @return 삭제 건수
+     */
+    @Transactional
+    public long delete(EntityPath<?> entityPath, Function<JPADeleteClause, JPADeleteClause> clause) {
+        entityManager.flush();
+        long deleted = clause.apply(queryFactory.delete(entityPath)).execute();
+        detachAll(entityPath.getType());
+        return deleted;
+    }
+
+    /**
+     * id 목록으로 삭제 (IN 절을 jpa.batch.delete-chunk-size 건씩 나누어 실행)
+     *
+     * @param entityPath 삭제 대상 엔티티 (Q 클래스)
+     * @param idPath     id 컬럼
+     * @param ids
+     * @return 삭제 건수
+     */
+    @Transactional
+    public <ID> long deleteAllByIds(EntityPath<?> entityPath, SimpleExpression<ID> idPath, Collection<ID> ids) {
+        entityManager.flush();
+        long deleted = 0;
+        for (List<ID> chunk : chunk(ids, jpaBatchConfig.getDeleteChunkSize())) {
+            deleted += queryFactory.delete(entityPath).where(idPath.in(chunk)).execute();
+        }
+        detachAll(entityPath.getType());
+        return deleted;
+    }
+
+    /**
+     * JdbcTemplate batch insert/update (엔티티/영속성 컨텍스트를 사용하지 않음)
+     *
+     * <pre>
+     * jpaBatchWriter.batchUpdate("insert into sample (title, content) values (?, ?)", list,
+     *         (ps, item) -> {
+     *             ps.setString(1, item.getTitle());
+     *             ps.setString(2, item.getContent());
+     *         });
+     * </pre>
+     *
+     * @param sql
+     * @param items
+     * @param setter
+     * @return 처리 건수
+     * @throws IncorrectUpdateSemanticsDataAccessException 드라이버가 실패(EXECUTE_FAILED)한 건을 알려준 경우 (트랜잭션 rollback)
+     */
+    @Transactional
+    public <T> long batchUpdate(String sql, Collection<T> items, ParameterizedPreparedStatementSetter<T> setter) {
+        entityManager.flush();
+        long count = 0;
+        long failed = 0;
+        for (int[] batch : jdbcTemplate.batchUpdate(sql, items, jpaBatchConfig.getSize(), setter)) {
+            for (int updateCount : batch) {
+                if (updateCount >= 0) {
+                    count += updateCount;
+                } else if (updateCount == Statement.SUCCESS_NO_INFO) {
+                    // 드라이버가 건수를 알려주지 않는 경우 1건으로 계산
+                    count++;
+                } else if (updateCount == Statement.EXECUTE_FAILED) {
+                    failed++;
+                }
+            }
+        }
+        if (failed > 0) {
+            throw new IncorrectUpdateSemanticsDataAccessException(
+                    "batch 실행 중 " + failed + "건이 실패했습니다. (성공 " + count + "건): " + sql);
+        }
+        return count;
+    }
+
+    /**
+     * flush 후 등록한 엔티티만 detach (batch 목록은 비움)
+     */
+    private void flushAndDetach(List<?> batch) {
+        entityManager.flush();
+        batch.forEach(entityManager::detach);
+        batch.clear();
+    }
+
+    /**
+     * bulk update/delete 로 DB 와 달라진 엔티티 타입의 영속 엔티티만 detach (다음 조회시 DB 값으로 다시 로딩)
+     */
+    private void detachAll(Class<?> entityType) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        for (Map.Entry<Object, EntityEntry> entry : session.getPersistenceContextInternal().reentrantSafeEntityEntries()) {
+            if (entityType.isInstance(entry.getKey())) {
+                entityManager.detach(entry.getKey());
+            }
+        }
+    }
+
+    private static <T> List<List<T>> chunk(Collection<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        List<T> current = new ArrayList<>(Math.min(size, items.size()));
+        for (T item : items) {
+            current.add(item);
+            if (current.size() == size) {
+                chunks.add(current);
+                current = new ArrayList<>(size);
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+}
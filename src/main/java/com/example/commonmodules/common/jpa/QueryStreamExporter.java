@@ -0,0 +1,187 @@
+package com.example.commonmodules.common.jpa;
+
+import com.example.commonmodules.common.utils.QueryDslUtils;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 대용량 조회 결과 CSV / JSON 내려받기
+ * - 응답 스트림에 한 건씩 기록하므로 조회 건수와 관계없이 메모리 사용량이 일정함
+ * - 응답 기록 스레드에서 읽기 전용 트랜잭션을 열고 QueryDslUtils.forEach 로 조회
+ *
+ * <pre>
+ * return ResponseEntity.ok()
+ *         .contentType(QueryStreamExporter.TEXT_CSV)
+ *         .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=sample.csv")
+ *         .body(queryStreamExporter.csv(
+ *                 queryFactory.select(Projections.constructor(SampleDto.class, sample.title, sample.content)).from(sample),
+ *                 List.of(CsvColumn.of("제목", SampleDto::getTitle), CsvColumn.of("내용", SampleDto::getContent))));
+ * </pre>
+ */
+@Slf4j
+@Component
+public class QueryStreamExporter {
+
+    public static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+    private static final int WRITER_BUFFER_SIZE = 16 * 1024;
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * CSV 컬럼
+     *
+     * @param header 헤더명
+     * @param value  값 추출 함수
+     * @param <T>
+     */
+    public record CsvColumn<T>(String header, Function<? super T, ?> value) {
+
+        public static <T> CsvColumn<T> of(String header, Function<? super T, ?> value) {
+            return new CsvColumn<>(header, value);
+        }
+    }
+
+    public QueryStreamExporter(PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * CSV 응답 본문 (UTF-8 BOM 포함, 엑셀 한글 호환)
+     *
+     * @param query   조회 query (DTO projection 권장)
+     * @param columns 컬럼 정의
+     * @return
+     */
+    public <T> StreamingResponseBody csv(JPAQuery<T> query, List<CsvColumn<T>> columns) {
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITER_BUFFER_SIZE);
+            writer.write(UTF8_BOM);
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) writer.write(',');
+                writeCsvValue(writer, columns.get(i).header());
+            }
+            writer.write("\r\n");
+
+            long count = export(query, item -> {
+                try {
+                    for (int i = 0; i < columns.size(); i++) {
+                        if (i > 0) writer.write(',');
+                        writeCsvValue(writer, columns.get(i).value().apply(item));
+                    }
+                    writer.write("\r\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            log.debug("CSV 내려받기 완료: {}건", count);
+        };
+    }
+
+    /**
+     * JSON 배열 응답 본문
+     *
+     * @param query 조회 query (DTO projection 권장)
+     * @return
+     */
+    public <T> StreamingResponseBody json(JPAQuery<T> query) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(nonClosing(outputStream), JsonEncoding.UTF8)) {
+                generator.writeStartArray();
+                long count = export(query, item -> {
+                    try {
+                        objectMapper.writeValue(generator, item);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+                log.debug("JSON 내려받기 완료: {}건", count);
+            }
+        };
+    }
+
+    private <T> long export(JPAQuery<T> query, Consumer<T> consumer) throws IOException {
+        try {
+            Long count = transactionTemplate.execute(status ->
+                    QueryDslUtils.forEach(query, DEFAULT_FETCH_SIZE, entityManager, consumer));
+            return count != null ? count : 0;
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 응답 기록 오류
+            throw e.getCause();
+        }
+    }
+
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        String text = value.toString();
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') writer.write('"');
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    /**
+     * JsonGenerator 종료시 응답 스트림은 닫지 않음 (컨테이너가 처리)
+     */
+    private static OutputStream nonClosing(OutputStream outputStream) {
+        return new FilterOutputStream(outputStream) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.commonmodules.common.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 스레드 단위 SQL 실행 정보
+ * - begin ~ end 사이에 현재 스레드에서 실행된 SQL을 SqlCaptureListener가 기록
+ * - 한 요청 스레드에서만 사용되므로 동기화하지 않음
+ */
+public final class RequestSqlContext {
+
+    private static final ThreadLocal<RequestSqlContext> CURRENT = new ThreadLocal<>();
+
+    // 실행 횟수를 집계할 SQL 최대 종류 수 (초과분은 건수/시간만 집계)
+    private static final int MAX_DISTINCT_STATEMENTS = 512;
+
+    private final int maxCapturedStatements;
+    private final List<CapturedSql> statements = new ArrayList<>();
+    private final Map<String, int[]> executionCounts = new HashMap<>();
+    private int statementCount;
+    private long totalElapsedNanos;
+
+    /**
+     * 실행된 SQL
+     *
+     * @param sql          SQL (prepared statement 형태)
+     * @param elapsedNanos 실행 시간(ns)
+     */
+    public record CapturedSql(String sql, long elapsedNanos) {
+    }
+
+    /**
+     * 반복 실행된 SQL 형태
+     *
+     * @param sql   SQL 형태 (SqlFingerprint)
+     * @param count 실행 횟수
+     */
+    public record RepeatedSql(String sql, int count) {
+    }
+
+    private RequestSqlContext(int maxCapturedStatements) {
+        this.maxCapturedStatements = maxCapturedStatements;
+    }
+
+    /**
+     * 현재 스레드에 SQL 수집 시작
+     *
+     * @param maxCapturedStatements SQL 문장을 보관할 최대 건수 (건수/시간은 모두 집계)
+     * @return 새로 시작한 경우 context, 이미 수집 중이면 null
+     */
+    public static RequestSqlContext begin(int maxCapturedStatements) {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        RequestSqlContext context = new RequestSqlContext(maxCapturedStatements);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * 현재 스레드의 SQL 수집 context
+     *
+     * @return 수집 중이 아니면 null
+     */
+    public static RequestSqlContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * SQL 수집 종료
+     *
+     * @param context begin 에서 반환된 context
+     */
+    public static void end(RequestSqlContext context) {
+        if (context != null && CURRENT.get() == context) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * SQL 실행 기록
+     *
+     * @param sql
+     * @param elapsedNanos
+     */
+    public void record(String sql, long elapsedNanos) {
+        statementCount++;
+        totalElapsedNanos += elapsedNanos;
+        if (statements.size() < maxCapturedStatements) {
+            statements.add(new CapturedSql(sql, elapsedNanos));
+        }
+
+        // 형태 추출은 조회 시점에 종류별로 한 번만 수행
+        int[] count = executionCounts.get(sql);
+        if (count != null) {
+            count[0]++;
+        } else if (sql != null && executionCounts.size() < MAX_DISTINCT_STATEMENTS) {
+            executionCounts.put(sql, new int[]{1});
+        }
+    }
+
+    /**
+     * 같은 형태로 minCount 회 이상 실행된 SQL (실행 횟수 내림차순)
+     *
+     * @param minCount
+     * @return
+     */
+    public List<RepeatedSql> getRepeatedStatements(int minCount) {
+        Map<String, int[]> fingerprintCounts = new HashMap<>();
+        for (Map.Entry<String, int[]> entry : executionCounts.entrySet()) {
+            fingerprintCounts.computeIfAbsent(SqlFingerprint.normalize(entry.getKey()), key -> new int[1])[0] += entry.getValue()[0];
+        }
+
+        List<RepeatedSql> repeated = new ArrayList<>();
+        for (Map.Entry<String, int[]> entry : fingerprintCounts.entrySet()) {
+            if (entry.getValue()[0] >= minCount) {
+                repeated.add(new RepeatedSql(entry.getKey(), entry.getValue()[0]));
+            }
+        }
+        repeated.sort(Comparator.comparingInt(RepeatedSql::count).reversed());
+        return repeated;
+    }
+
+    /**
+     * 실행된 SQL 종류 수 (MAX_DISTINCT_STATEMENTS 까지만 집계)
+     *
+     * @return
+     */
+    public int getDistinctStatementCount() {
+        return executionCounts.size();
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getTotalElapsedNanos() {
+        return totalElapsedNanos;
+    }
+
+    public List<CapturedSql> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+}
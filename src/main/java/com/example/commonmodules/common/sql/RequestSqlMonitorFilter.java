@@ -0,0 +1,83 @@
+package com.example.commonmodules.common.sql;
+
+import com.example.commonmodules.common.config.SqlMonitorConfig;
+import com.example.commonmodules.common.enums.common.ApiLogLevel;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * HTTP 요청별 SQL 실행 통계 (sql.monitor.enabled)
+ * - 요청 동안 P6Spy로 실행된 SQL 건수, 실행 시간, 반복 실행된 SQL 형태를 집계하여 요청 종료시 요약 로그로 남김
+ * - 같은 형태의 SQL이 sql.monitor.repeat-threshold 회 이상 실행되면 N+1 의심 경고
+ * - 요청 동안 @CustomApiLogger 느린 요청 로그도 같은 집계 정보를 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestSqlMonitorFilter extends OncePerRequestFilter {
+
+    private final SqlMonitorConfig sqlMonitorConfig;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !sqlMonitorConfig.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestSqlContext context = RequestSqlContext.begin(sqlMonitorConfig.getMaxCapturedSql());
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            try {
+                if (context != null) {
+                    report(request, response, context, (System.nanoTime() - start) / 1_000_000);
+                }
+            } finally {
+                RequestSqlContext.end(context);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, HttpServletResponse response, RequestSqlContext context, long elapsedMs) {
+        if (context.getStatementCount() == 0) {
+            return;
+        }
+
+        int threshold = sqlMonitorConfig.getRepeatThreshold();
+        if (threshold > 0 && context.getStatementCount() >= threshold) {
+            List<RequestSqlContext.RepeatedSql> repeated = context.getRepeatedStatements(threshold);
+            for (RequestSqlContext.RepeatedSql repeatedSql : repeated) {
+                log.warn("[SQL][N+1] {} {} | {}회 반복 | {}",
+                        request.getMethod(), request.getRequestURI(), repeatedSql.count(), repeatedSql.sql());
+            }
+        }
+
+        ApiLogLevel level = sqlMonitorConfig.getSummaryLogLevel();
+        if (level == ApiLogLevel.OFF || (level == ApiLogLevel.DEBUG && !log.isDebugEnabled())) {
+            return;
+        }
+
+        String format = "[SQL] {} {} | status = {} | {} queries ({} distinct) | SQL Time = {}ms | Time = {}ms";
+        Object[] args = {request.getMethod(), request.getRequestURI(), response.getStatus(),
+                context.getStatementCount(), context.getDistinctStatementCount(),
+                context.getTotalElapsedNanos() / 1_000_000, elapsedMs};
+        if (level == ApiLogLevel.DEBUG) {
+            log.debug(format, args);
+        } else {
+            log.info(format, args);
+        }
+    }
+}
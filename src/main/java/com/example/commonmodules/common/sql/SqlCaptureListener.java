@@ -0,0 +1,24 @@
+package com.example.commonmodules.common.sql;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * P6Spy 이벤트로 현재 요청의 SQL 실행 정보를 수집
+ * - p6spy-spring-boot-starter가 JdbcEventListener 빈을 자동으로 등록
+ * - 수집 중인 요청(RequestSqlContext)이 없으면 아무 작업도 하지 않음
+ */
+@Component
+public class SqlCaptureListener extends SimpleJdbcEventListener {
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        RequestSqlContext context = RequestSqlContext.current();
+        if (context != null) {
+            context.record(statementInformation.getSql(), timeElapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.commonmodules.common.sql;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SQL 형태(fingerprint) 추출 util
+ * - 문자열/숫자 리터럴은 ? 로 치환하고 공백은 하나로 합침
+ * - IN 절 등 연속된 바인딩 파라미터(?, ?, ?)는 ? 하나로 합쳐 파라미터 개수가 달라도 같은 형태로 취급
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE) // 인스턴스화 방지를 위한 private 생성자
+public final class SqlFingerprint {
+
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+    private static final String DDL_CREATE = "create";
+    private static final String DDL_ALTER = "alter";
+    private static final String DDL_DROP = "drop";
+    private static final String DDL_TRUNCATE = "truncate";
+    private static final String DDL_COMMENT = "comment";
+
+    /**
+     * SQL 형태 추출
+     *
+     * @param sql
+     * @return
+     */
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+
+        int length = sql.length();
+        StringBuilder sb = new StringBuilder(Math.min(length, MAX_INITIAL_CAPACITY));
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+
+            if (c == '\'') {
+                // 문자열 리터럴 ('' 이스케이프 포함)
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                c = '?';
+            } else if (isDigit(c) && (i == 0 || !isIdentifierPart(sql.charAt(i - 1)))) {
+                // 숫자 리터럴 (별칭 t1_0 등 식별자에 포함된 숫자는 제외)
+                while (i + 1 < length && (isDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '.')) {
+                    i++;
+                }
+                c = '?';
+            }
+
+            if (c == '?' && trimPlaceholderList(sb)) {
+                pendingSpace = false;
+                continue;
+            }
+
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * DDL 문 여부 확인 (대소문자 무시, 앞 공백 제외)
+     *
+     * @param sql
+     * @return
+     */
+    public static boolean isDdl(String sql) {
+        if (sql == null) {
+            return false;
+        }
+
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        return startsWithIgnoreCase(sql, start, DDL_CREATE)
+                || startsWithIgnoreCase(sql, start, DDL_ALTER)
+                || startsWithIgnoreCase(sql, start, DDL_DROP)
+                || startsWithIgnoreCase(sql, start, DDL_TRUNCATE)
+                || startsWithIgnoreCase(sql, start, DDL_COMMENT);
+    }
+
+    private static boolean startsWithIgnoreCase(String sql, int offset, String prefix) {
+        return sql.regionMatches(true, offset, prefix, 0, prefix.length());
+    }
+
+    /**
+     * 직전 출력이 "?," 또는 "?, " 이면 구분자를 제거하고 true 반환
+     */
+    private static boolean trimPlaceholderList(StringBuilder sb) {
+        int i = sb.length() - 1;
+        if (i >= 0 && sb.charAt(i) == ' ') i--;
+        if (i < 0 || sb.charAt(i) != ',') return false;
+        i--;
+        if (i >= 0 && sb.charAt(i) == ' ') i--;
+        if (i < 0 || sb.charAt(i) != '?') return false;
+
+        sb.setLength(i + 1);
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '"' || c == '`';
+    }
+}
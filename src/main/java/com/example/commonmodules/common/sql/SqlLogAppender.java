@@ -0,0 +1,54 @@
+package com.example.commonmodules.common.sql;
+
+import com.p6spy.engine.logging.Category;
+import com.p6spy.engine.spy.P6SpyOptions;
+import com.p6spy.engine.spy.appender.Slf4JLogger;
+
+/**
+ * 기록 정책(SqlLogPolicy)을 적용하는 P6Spy Slf4j appender
+ * - 기록하지 않을 SQL은 포맷하기 전에 걸러냄
+ * - P6Spy가 appender를 직접 생성하므로 정책은 static 필드로 공유하고 실행 중 교체 가능
+ * - sql.log.policy-enabled 설정시, 기존 appender 가 기본 Slf4j appender 인 경우에만 등록됨
+ */
+public class SqlLogAppender extends Slf4JLogger {
+
+    private static volatile SqlLogPolicy POLICY = SqlLogPolicy.LOG_ALL;
+
+    /**
+     * P6Spy appender 로 등록되어 정책이 적용되고 있는지 여부
+     *
+     * @return
+     */
+    public static boolean isInstalled() {
+        return SqlLogAppender.class.getName().equals(P6SpyOptions.getActiveInstance().getAppender());
+    }
+
+    /**
+     * 현재 적용중인 기록 정책
+     *
+     * @return
+     */
+    public static SqlLogPolicy getPolicy() {
+        return POLICY;
+    }
+
+    /**
+     * 기록 정책 변경 (다음 SQL부터 적용)
+     *
+     * @param policy
+     */
+    public static void setPolicy(SqlLogPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("policy는 필수입니다.");
+        }
+        POLICY = policy;
+    }
+
+    @Override
+    public void logSQL(int connectionId, String now, long elapsed, Category category, String prepared, String sql, String url) {
+        if (!POLICY.shouldLog(category, elapsed, sql)) {
+            return;
+        }
+        super.logSQL(connectionId, now, elapsed, category, prepared, sql, url);
+    }
+}
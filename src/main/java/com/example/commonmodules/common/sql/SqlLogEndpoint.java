@@ -0,0 +1,78 @@
+package com.example.commonmodules.common.sql;
+
+import com.example.commonmodules.common.config.SqlLogConfig;
+import com.example.commonmodules.common.enums.common.SqlLogMode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL 로그 기록 정책 조회/변경 actuator 엔드포인트 (/actuator/sqllog)
+ * - 사용하는 서비스에서 management.endpoints.web.exposure.include 에 sqllog 를 추가해야 노출됨
+ * - 변경된 정책은 재시작하면 설정값(sql.log.*)으로 돌아감
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "sqllog")
+public class SqlLogEndpoint {
+
+    private final SqlLogConfig sqlLogConfig;
+
+    /**
+     * 현재 정책 조회
+     *
+     * @return
+     */
+    @ReadOperation
+    public SqlLogPolicy policy() {
+        return SqlLogAppender.getPolicy();
+    }
+
+    /**
+     * 정책 변경 (전달하지 않은 값은 현재 값 유지)
+     *
+     * @param mode
+     * @param slowThresholdMs
+     * @param sampleEvery
+     * @param alwaysLogErrors
+     * @param alwaysLogDdl
+     * @return 변경된 정책
+     */
+    @WriteOperation
+    public SqlLogPolicy update(@Nullable SqlLogMode mode, @Nullable Long slowThresholdMs, @Nullable Integer sampleEvery,
+                               @Nullable Boolean alwaysLogErrors, @Nullable Boolean alwaysLogDdl) {
+        SqlLogPolicy current = SqlLogAppender.getPolicy();
+        SqlLogPolicy updated = new SqlLogPolicy(
+                mode != null ? mode : current.mode(),
+                slowThresholdMs != null ? slowThresholdMs : current.slowThresholdMs(),
+                sampleEvery != null ? sampleEvery : current.sampleEvery(),
+                alwaysLogErrors != null ? alwaysLogErrors : current.alwaysLogErrors(),
+                alwaysLogDdl != null ? alwaysLogDdl : current.alwaysLogDdl());
+
+        SqlLogAppender.setPolicy(updated);
+        log.info("SQL 로그 정책 변경: {} -> {}", current, updated);
+        if (!SqlLogAppender.isInstalled()) {
+            log.warn("SqlLogAppender 가 P6Spy appender 로 등록되어 있지 않아 변경된 정책이 적용되지 않습니다. (sql.log.policy-enabled)");
+        }
+        return updated;
+    }
+
+    /**
+     * 설정값(sql.log.*) 정책으로 되돌림
+     *
+     * @return
+     */
+    @DeleteOperation
+    public SqlLogPolicy reset() {
+        SqlLogPolicy policy = SqlLogPolicy.from(sqlLogConfig);
+        SqlLogAppender.setPolicy(policy);
+        log.info("SQL 로그 정책 초기화: {}", policy);
+        return policy;
+    }
+}
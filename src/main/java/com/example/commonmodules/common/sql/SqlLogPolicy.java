@@ -0,0 +1,73 @@
+package com.example.commonmodules.common.sql;
+
+import com.example.commonmodules.common.config.SqlLogConfig;
+import com.example.commonmodules.common.enums.common.SqlLogMode;
+import com.p6spy.engine.logging.Category;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * P6Spy SQL 로그 기록 정책
+ *
+ * @param mode            기록 방식
+ * @param slowThresholdMs SLOW 방식 기준 시간(ms)
+ * @param sampleEvery     SAMPLE 방식 기록 비율 (N건 중 1건)
+ * @param alwaysLogErrors 오류 SQL은 방식과 관계없이 기록
+ * @param alwaysLogDdl    DDL은 방식과 관계없이 기록
+ */
+public record SqlLogPolicy(SqlLogMode mode, long slowThresholdMs, int sampleEvery,
+                           boolean alwaysLogErrors, boolean alwaysLogDdl) {
+
+    /**
+     * 모든 SQL을 기록하는 기본 정책 (기존 동작)
+     */
+    public static final SqlLogPolicy LOG_ALL = new SqlLogPolicy(SqlLogMode.ALL, 0, 1, true, true);
+
+    public SqlLogPolicy {
+        if (mode == null) {
+            throw new IllegalArgumentException("mode는 필수입니다.");
+        }
+        if (sampleEvery < 1) {
+            throw new IllegalArgumentException("sampleEvery는 1 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * 설정값으로 정책 생성
+     *
+     * @param sqlLogConfig
+     * @return
+     */
+    public static SqlLogPolicy from(SqlLogConfig sqlLogConfig) {
+        return new SqlLogPolicy(
+                sqlLogConfig.getMode(),
+                sqlLogConfig.getSlowThresholdMs(),
+                Math.max(sqlLogConfig.getSampleEvery(), 1),
+                sqlLogConfig.isAlwaysLogErrors(),
+                sqlLogConfig.isAlwaysLogDdl());
+    }
+
+    /**
+     * 기록 여부 판단 (SQL 포맷 전에 호출)
+     *
+     * @param category  P6Spy 카테고리
+     * @param elapsedMs 실행 시간(ms)
+     * @param sql
+     * @return
+     */
+    public boolean shouldLog(Category category, long elapsedMs, String sql) {
+        if (mode == SqlLogMode.ALL) {
+            return true;
+        }
+        if (alwaysLogErrors && category == Category.ERROR) {
+            return true;
+        }
+
+        boolean logged = switch (mode) {
+            case SLOW -> elapsedMs >= slowThresholdMs;
+            case SAMPLE -> sampleEvery == 1 || ThreadLocalRandom.current().nextInt(sampleEvery) == 0;
+            default -> false;
+        };
+        return logged || (alwaysLogDdl && SqlFingerprint.isDdl(sql));
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.commonmodules.common.sql;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 형태(fingerprint)별 누적 통계
+ * - 여러 스레드에서 동시에 기록하므로 LongAdder / LongAccumulator 사용 (잠금 없음)
+ * - p99 는 마이크로초 단위 로그 스케일 히스토그램(2의 거듭제곱 구간을 4등분)으로 근사
+ */
+public final class SqlStatementStats {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = 40 * SUB_BUCKETS;
+
+    private final String id;
+    private final String fingerprint;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAccumulator minNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * 통계 조회 결과
+     *
+     * @param id          SQL 형태 식별자
+     * @param fingerprint SQL 형태
+     * @param count       실행 수
+     * @param errorCount  오류 수
+     * @param totalMs     전체 실행 시간(ms)
+     * @param avgMs       평균 실행 시간(ms)
+     * @param minMs       최소 실행 시간(ms)
+     * @param maxMs       최대 실행 시간(ms)
+     * @param p99Ms       99% 실행 시간(ms, 근사값)
+     * @param rows        변경/조회된 행 수
+     */
+    public record Snapshot(String id, String fingerprint, long count, long errorCount,
+                           double totalMs, double avgMs, double minMs, double maxMs, double p99Ms, long rows) {
+    }
+
+    SqlStatementStats(String id, String fingerprint) {
+        this.id = id;
+        this.fingerprint = fingerprint;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * 실행 기록
+     *
+     * @param elapsedNanos
+     * @param error
+     */
+    void record(long elapsedNanos, boolean error) {
+        count.increment();
+        totalNanos.add(elapsedNanos);
+        minNanos.accumulate(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+        histogram.incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        if (error) {
+            errorCount.increment();
+        }
+    }
+
+    /**
+     * 행 수 기록
+     *
+     * @param rowCount
+     */
+    void addRows(long rowCount) {
+        if (rowCount > 0) {
+            rows.add(rowCount);
+        }
+    }
+
+    void reset() {
+        count.reset();
+        errorCount.reset();
+        totalNanos.reset();
+        rows.reset();
+        minNanos.reset();
+        maxNanos.reset();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            histogram.set(i, 0);
+        }
+    }
+
+    Snapshot toSnapshot() {
+        long executions = count.sum();
+        long total = totalNanos.sum();
+        long min = minNanos.get();
+        return new Snapshot(id, fingerprint, executions, errorCount.sum(),
+                toMillis(total),
+                executions > 0 ? toMillis(total) / executions : 0,
+                min == Long.MAX_VALUE ? 0 : toMillis(min),
+                toMillis(maxNanos.get()),
+                percentileMicros(0.99) / 1000.0,
+                rows.sum());
+    }
+
+    private long percentileMicros(double percentile) {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += histogram.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = (long) Math.ceil(total * percentile);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += histogram.get(i);
+            if (cumulative >= target) {
+                return upperBoundMicros(i);
+            }
+        }
+        return upperBoundMicros(BUCKET_COUNT - 1);
+    }
+
+    private static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(micros, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return Math.min((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket, BUCKET_COUNT - 1);
+    }
+
+    private static long upperBoundMicros(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = bucket % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.commonmodules.common.sql;
+
+import com.example.commonmodules.common.config.SqlMonitorConfig;
+import com.example.commonmodules.common.utils.LruCache;
+import com.p6spy.engine.common.PreparedStatementInformation;
+import com.p6spy.engine.common.ResultSetInformation;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 형태(fingerprint)별 누적 통계 수집 (sql.monitor.stats-enabled)
+ * - P6Spy 이벤트로 실행 수, 실행 시간(합계/최소/최대/p99), 행 수를 집계
+ * - 실행 SQL -> 통계 객체 매핑을 캐시하여 같은 SQL은 형태 추출을 한 번만 수행
+ * - sql.monitor.stats-metrics-enabled 사용시 Micrometer FunctionTimer(sql.statements, 태그: fingerprint)로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatisticsCollector extends SimpleJdbcEventListener {
+
+    public static final String METRIC_NAME = "sql.statements";
+
+    private static final int ID_BYTES = 8;
+
+    private final SqlMonitorConfig sqlMonitorConfig;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    // SQL 형태 -> 통계
+    private final Map<String, SqlStatementStats> statsMap = new ConcurrentHashMap<>();
+    // 실행 SQL -> 통계 (형태 추출 생략용, 리터럴이 포함된 SQL로 계속 커지지 않도록 LRU)
+    private LruCache<String, SqlStatementStats> sqlCache;
+
+    private volatile boolean enabled;
+    private MeterRegistry meterRegistry;
+
+    /**
+     * 조회 정렬 기준
+     */
+    public enum SortBy {
+        TOTAL, AVG, MAX, P99, COUNT
+    }
+
+    @PostConstruct
+    public void init() {
+        enabled = sqlMonitorConfig.isStatsEnabled();
+        sqlCache = new LruCache<>(Math.max(1, sqlMonitorConfig.getMaxFingerprints() * 4));
+        if (enabled && sqlMonitorConfig.isStatsMetricsEnabled()) {
+            meterRegistry = meterRegistryProvider.getIfAvailable();
+            if (meterRegistry == null) {
+                log.warn("MeterRegistry 빈이 없어 SQL 통계 지표를 기록하지 않습니다.");
+            }
+        }
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        SqlStatementStats stats = getStats(statementInformation);
+        if (stats != null) {
+            stats.record(timeElapsedNanos, e != null);
+        }
+    }
+
+    @Override
+    public void onAfterExecuteUpdate(PreparedStatementInformation statementInformation, long timeElapsedNanos, int rowCount, SQLException e) {
+        super.onAfterExecuteUpdate(statementInformation, timeElapsedNanos, rowCount, e);
+        addRows(statementInformation, rowCount);
+    }
+
+    @Override
+    public void onAfterExecuteUpdate(StatementInformation statementInformation, long timeElapsedNanos, String sql, int rowCount, SQLException e) {
+        super.onAfterExecuteUpdate(statementInformation, timeElapsedNanos, sql, rowCount, e);
+        addRows(statementInformation, rowCount);
+    }
+
+    @Override
+    public void onAfterExecuteBatch(StatementInformation statementInformation, long timeElapsedNanos, int[] updateCounts, SQLException e) {
+        super.onAfterExecuteBatch(statementInformation, timeElapsedNanos, updateCounts, e);
+        if (updateCounts != null) {
+            long rowCount = 0;
+            for (int updateCount : updateCounts) {
+                rowCount += Math.max(updateCount, 0);
+            }
+            addRows(statementInformation, rowCount);
+        }
+    }
+
+    /**
+     * 조회 행 수는 행마다 집계하지 않고 ResultSet 을 닫을 때 한 번만 기록
+     * - P6Spy 가 next() 마다 증가시키는 현재 행 번호(0부터, 읽기 전 -1) 사용
+     */
+    @Override
+    public void onAfterResultSetClose(ResultSetInformation resultSetInformation, SQLException e) {
+        int rowCount = resultSetInformation.getCurrRow() + 1;
+        if (rowCount > 0) {
+            addRows(resultSetInformation.getStatementInformation(), rowCount);
+        }
+    }
+
+    /**
+     * 통계 수집 사용 여부
+     *
+     * @return
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 통계 수집 사용 여부 변경 (중지해도 누적된 통계는 유지)
+     *
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 정렬 기준 상위 N개 SQL 형태 통계
+     *
+     * @param sortBy
+     * @param limit
+     * @return
+     */
+    public List<SqlStatementStats.Snapshot> getTop(SortBy sortBy, int limit) {
+        return statsMap.values().stream()
+                .map(SqlStatementStats::toSnapshot)
+                .filter(snapshot -> snapshot.count() > 0)
+                .sorted(comparator(sortBy).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 통계 초기화 (등록된 SQL 형태와 지표는 유지하고 값만 초기화)
+     */
+    public void reset() {
+        statsMap.values().forEach(SqlStatementStats::reset);
+    }
+
+    private void addRows(StatementInformation statementInformation, long rowCount) {
+        SqlStatementStats stats = getStats(statementInformation);
+        if (stats != null) {
+            stats.addRows(rowCount);
+        }
+    }
+
+    private SqlStatementStats getStats(StatementInformation statementInformation) {
+        if (!enabled || statementInformation == null) {
+            return null;
+        }
+
+        String sql = statementInformation.getSql();
+        if (sql == null || sql.isEmpty()) {
+            return null;
+        }
+
+        SqlStatementStats stats = sqlCache.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+
+        String fingerprint = SqlFingerprint.normalize(sql);
+        stats = statsMap.get(fingerprint);
+        if (stats == null) {
+            if (statsMap.size() >= sqlMonitorConfig.getMaxFingerprints()) {
+                return null;
+            }
+            stats = statsMap.computeIfAbsent(fingerprint, this::createStats);
+        }
+
+        sqlCache.put(sql, stats);
+        return stats;
+    }
+
+    private SqlStatementStats createStats(String fingerprint) {
+        SqlStatementStats stats = new SqlStatementStats(idOf(fingerprint), fingerprint);
+        if (meterRegistry != null) {
+            FunctionTimer.builder(METRIC_NAME, stats, SqlStatementStats::getCount, SqlStatementStats::getTotalNanos, TimeUnit.NANOSECONDS)
+                    .description("SQL 형태별 실행 시간")
+                    .tag("fingerprint", stats.getId())
+                    .register(meterRegistry);
+        }
+        return stats;
+    }
+
+    /**
+     * SQL 형태 식별자 (SHA-256 앞 8 byte hex, 지표 태그 / 엔드포인트 id 로 사용)
+     * - String.hashCode(32bit)는 형태가 많아지면 충돌하여 다른 SQL 의 지표가 합쳐질 수 있음
+     */
+    private static String idOf(String fingerprint) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fingerprint.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, ID_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Comparator<SqlStatementStats.Snapshot> comparator(SortBy sortBy) {
+        return switch (sortBy) {
+            case AVG -> Comparator.comparingDouble(SqlStatementStats.Snapshot::avgMs);
+            case MAX -> Comparator.comparingDouble(SqlStatementStats.Snapshot::maxMs);
+            case P99 -> Comparator.comparingDouble(SqlStatementStats.Snapshot::p99Ms);
+            case COUNT -> Comparator.comparingLong(SqlStatementStats.Snapshot::count);
+            default -> Comparator.comparingDouble(SqlStatementStats.Snapshot::totalMs);
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.commonmodules.common.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * SQL 형태별 누적 통계 actuator 엔드포인트 (/actuator/sqlstats)
+ * - 사용하는 서비스에서 management.endpoints.web.exposure.include 에 sqlstats 를 추가해야 노출됨
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "sqlstats")
+public class SqlStatisticsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SqlStatisticsCollector sqlStatisticsCollector;
+
+    /**
+     * 상위 N개 SQL 형태 통계 조회
+     *
+     * @param sortBy 정렬 기준 (기본: TOTAL)
+     * @param limit  조회 건수 (기본: 20)
+     * @return
+     */
+    @ReadOperation
+    public List<SqlStatementStats.Snapshot> top(@Nullable SqlStatisticsCollector.SortBy sortBy, @Nullable Integer limit) {
+        return sqlStatisticsCollector.getTop(
+                sortBy != null ? sortBy : SqlStatisticsCollector.SortBy.TOTAL,
+                limit != null && limit > 0 ? limit : DEFAULT_LIMIT);
+    }
+
+    /**
+     * 통계 수집 사용 여부 변경
+     *
+     * @param enabled
+     */
+    @WriteOperation
+    public void enable(boolean enabled) {
+        sqlStatisticsCollector.setEnabled(enabled);
+    }
+
+    /**
+     * 통계 초기화
+     */
+    @DeleteOperation
+    public void reset() {
+        sqlStatisticsCollector.reset();
+    }
+}
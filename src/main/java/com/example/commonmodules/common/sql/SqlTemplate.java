@@ -0,0 +1,165 @@
+package com.example.commonmodules.common.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포맷된 prepared statement 템플릿
+ * - prepared SQL(? 포함)을 한 번만 포맷해두고, 실행 SQL에서 바인딩 값만 잘라 포맷 결과의 ? 자리에 끼워 넣음
+ * - 실행 SQL이 prepared SQL과 맞지 않으면 render 결과가 null 이므로 호출측에서 직접 포맷해야 함
+ */
+public final class SqlTemplate {
+
+    private final String[] preparedSegments;
+    private final String[] formattedSegments;
+    private final int formattedLength;
+
+    private SqlTemplate(String[] preparedSegments, String[] formattedSegments) {
+        this.preparedSegments = preparedSegments;
+        this.formattedSegments = formattedSegments;
+
+        int length = 0;
+        for (String segment : formattedSegments) {
+            length += segment.length();
+        }
+        this.formattedLength = length;
+    }
+
+    /**
+     * 템플릿 생성
+     *
+     * @param prepared  prepared SQL
+     * @param formatted prepared SQL 포맷 결과
+     * @return 바인딩 파라미터 개수가 맞지 않으면 null
+     */
+    public static SqlTemplate of(String prepared, String formatted) {
+        String[] preparedSegments = splitByPlaceholder(prepared);
+        String[] formattedSegments = splitByPlaceholder(formatted);
+        if (preparedSegments.length != formattedSegments.length) {
+            return null;
+        }
+        return new SqlTemplate(preparedSegments, formattedSegments);
+    }
+
+    /**
+     * 실행 SQL의 바인딩 값을 포맷된 템플릿에 적용
+     *
+     * @param sql 바인딩 값이 적용된 실행 SQL (P6Spy 형식)
+     * @return 실행 SQL이 템플릿과 맞지 않으면 null
+     */
+    public String render(String sql) {
+        int last = preparedSegments.length - 1;
+        if (last == 0) {
+            return sql.equals(preparedSegments[0]) ? formattedSegments[0] : null;
+        }
+
+        StringBuilder sb = new StringBuilder(formattedLength + Math.max(sql.length() - formattedLength, 0) + 16 * last);
+        int position = 0;
+        for (int i = 0; ; i++) {
+            String segment = preparedSegments[i];
+            if (!sql.startsWith(segment, position)) {
+                return null;
+            }
+            position += segment.length();
+            sb.append(formattedSegments[i]);
+
+            if (i == last) {
+                break;
+            }
+
+            int valueEnd = valueEnd(sql, position);
+            if (valueEnd < 0) {
+                return null;
+            }
+            sb.append(sql, position, valueEnd);
+            position = valueEnd;
+        }
+        return position == sql.length() ? sb.toString() : null;
+    }
+
+    /**
+     * 문자열 리터럴 밖의 공백을 하나로 합쳐 한 줄로 변환
+     *
+     * @param sql
+     * @return
+     */
+    public static String compact(String sql) {
+        int length = sql.length();
+        StringBuilder sb = new StringBuilder(length);
+        boolean inLiteral = false;
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+            if (!inLiteral && Character.isWhitespace(c)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 문자열 리터럴 밖의 ? 기준으로 분리
+     */
+    private static String[] splitByPlaceholder(String sql) {
+        List<String> segments = new ArrayList<>();
+        boolean inLiteral = false;
+        int start = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            } else if (c == '?' && !inLiteral) {
+                segments.add(sql.substring(start, i));
+                start = i + 1;
+            }
+        }
+        segments.add(sql.substring(start));
+        return segments.toArray(String[]::new);
+    }
+
+    /**
+     * 바인딩 값의 끝 위치
+     * - P6Spy는 문자열/날짜 값은 '...' ('' 이스케이프), 숫자/NULL 은 그대로 출력
+     */
+    private static int valueEnd(String sql, int start) {
+        int length = sql.length();
+        if (start >= length) {
+            return -1;
+        }
+
+        if (sql.charAt(start) == '\'') {
+            int i = start + 1;
+            while (i < length) {
+                if (sql.charAt(i) == '\'') {
+                    if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                        i += 2;
+                        continue;
+                    }
+                    return i + 1;
+                }
+                i++;
+            }
+            return -1;
+        }
+
+        int i = start;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == ',' || c == ')' || c == ';' || Character.isWhitespace(c)) {
+                break;
+            }
+            i++;
+        }
+        return i > start ? i : -1;
+    }
+}
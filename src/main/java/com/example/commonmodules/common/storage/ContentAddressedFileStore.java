@@ -0,0 +1,235 @@
+package com.example.commonmodules.common.storage;
+
+import com.example.commonmodules.common.enums.file.StorageLayoutType;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 내용 기반(content-addressed) 파일 저장소
+ * - 업로드 내용을 스트리밍하면서 해시를 계산하고, 같은 내용은 한 번만 저장
+ * - 저장 파일 옆의 참조 카운트 파일(.ref)로 마지막 참조가 삭제될 때만 실제 파일 삭제
+ * - 참조 카운트 잠금은 JVM 내부 잠금이므로, 여러 서버가 같은 저장소를 공유하는 경우에는 사용하지 않는다
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE) // 인스턴스화 방지를 위한 private 생성자
+public final class ContentAddressedFileStore {
+
+    public static final String REF_SUFFIX = ".ref";
+    private static final String TEMP_PREFIX = ".upload-";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    // 해시별 참조 카운트 갱신 잠금 (striped lock)
+    private static final ReentrantLock[] LOCKS = new ReentrantLock[64];
+
+    static {
+        for (int i = 0; i < LOCKS.length; i++) {
+            LOCKS[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 저장 결과
+     *
+     * @param blobPath    실제 저장 파일 경로
+     * @param contentHash 파일 내용 해시 (hex)
+     * @param created     새로 저장되었는지 여부 (false: 기존 파일 재사용)
+     */
+    public record StoredBlob(Path blobPath, String contentHash, boolean created) {
+    }
+
+    /**
+     * 파일 저장 (동일 내용 파일이 있으면 참조 카운트만 증가)
+     *
+     * @param file
+     * @param directory     저장 디렉토리
+     * @param layout        디렉토리 내부 배치 전략 (파일명만으로 경로가 결정되어야 함)
+     * @param extension     저장 파일 확장자
+     * @param hashAlgorithm MessageDigest 알고리즘 (ex. SHA-256)
+     * @return
+     * @throws IOException
+     */
+    public static StoredBlob store(MultipartFile file, Path directory, StorageLayout layout, String extension, String hashAlgorithm) throws IOException {
+        Files.createDirectories(directory);
+
+        // 내용 해시를 계산하면서 임시파일로 저장
+        Path tempFile = Files.createTempFile(directory, TEMP_PREFIX, TEMP_SUFFIX);
+        try {
+            MessageDigest digest = newDigest(hashAlgorithm);
+            try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            Path blobPath = layout.resolve(directory, contentHash + "." + extension);
+
+            ReentrantLock lock = lockFor(blobPath);
+            lock.lock();
+            try {
+                boolean created = !Files.exists(blobPath);
+                if (created) {
+                    Files.createDirectories(blobPath.getParent());
+                    Files.move(tempFile, blobPath, StandardCopyOption.ATOMIC_MOVE);
+                }
+                writeRefCount(blobPath, readRefCount(blobPath) + 1);
+                return new StoredBlob(blobPath, contentHash, created);
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 내용 기반 저장 파일 배치 전략
+     * - 해시 파일명으로 다시 찾을 수 있어야 하므로 파일명만으로 경로가 결정되지 않는 전략(날짜 기준 등) 대신 해시 prefix 배치 사용
+     * - 저장(FileUtils)과 배치 이동(StorageLayoutMigrator)이 같은 규칙을 사용해야 중복 제거 대상 경로가 어긋나지 않음
+     *
+     * @param configured 설정된 배치 전략
+     * @return
+     */
+    public static StorageLayout blobLayout(StorageLayout configured) {
+        return configured.isDeterministic() ? configured : StorageLayoutType.HASH_PREFIX;
+    }
+
+    /**
+     * 참조 카운트로 관리되는 파일인지 여부
+     *
+     * @param blobPath
+     * @return
+     */
+    public static boolean isManaged(Path blobPath) {
+        return Files.exists(refPath(blobPath));
+    }
+
+    /**
+     * 참조 하나를 해제하고, 마지막 참조였다면 실제 파일 삭제
+     *
+     * @param blobPath
+     * @return 참조 해제 성공 여부
+     * @throws IOException
+     */
+    public static boolean release(Path blobPath) throws IOException {
+        ReentrantLock lock = lockFor(blobPath);
+        lock.lock();
+        try {
+            long refCount = readRefCount(blobPath);
+            if (refCount <= 1) {
+                Files.deleteIfExists(refPath(blobPath));
+                return Files.deleteIfExists(blobPath);
+            }
+
+            writeRefCount(blobPath, refCount - 1);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저장 파일과 참조 카운트 파일 이동 (배치 전략 변경용)
+     * - 저장/참조 해제와 같은 잠금을 잡은 상태에서 참조 카운트 파일을 먼저 옮긴 뒤 저장 파일을 옮김
+     * - 대상 경로에 같은 내용 파일이 이미 있으면 참조 카운트를 합치고 원본을 삭제
+     *
+     * @param source
+     * @param target
+     * @return 이동(또는 병합) 여부 (원본이 이미 삭제된 경우 false)
+     * @throws IOException
+     */
+    static boolean moveBlob(Path source, Path target) throws IOException {
+        ReentrantLock lock = lockFor(source);
+        lock.lock();
+        try {
+            if (!Files.exists(source)) {
+                return false;
+            }
+
+            long refCount = readRefCount(source);
+            Files.createDirectories(target.getParent());
+
+            if (Files.exists(target)) {
+                writeRefCount(target, readRefCount(target) + refCount);
+                Files.deleteIfExists(refPath(source));
+                Files.delete(source);
+                return true;
+            }
+
+            Path sourceRef = refPath(source);
+            if (Files.exists(sourceRef)) {
+                Files.move(sourceRef, refPath(target));
+            }
+            Files.move(source, target);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 참조 카운트 파일 경로
+     *
+     * @param blobPath
+     * @return
+     */
+    public static Path refPath(Path blobPath) {
+        return blobPath.resolveSibling(blobPath.getFileName() + REF_SUFFIX);
+    }
+
+    private static long readRefCount(Path blobPath) throws IOException {
+        Path refPath = refPath(blobPath);
+        if (!Files.exists(refPath)) {
+            return 0;
+        }
+
+        try {
+            return Long.parseLong(Files.readString(refPath, StandardCharsets.US_ASCII).trim());
+        } catch (NumberFormatException e) {
+            log.warn("참조 카운트 파일 형식이 올바르지 않습니다: {}", refPath);
+            return 1;
+        }
+    }
+
+    private static void writeRefCount(Path blobPath, long refCount) throws IOException {
+        // 임시파일에 쓴 뒤 교체하여 중간에 중단되어도 카운트 파일이 깨지지 않도록 함
+        Path refPath = refPath(blobPath);
+        Path tempRef = Files.createTempFile(refPath.getParent(), TEMP_PREFIX, TEMP_SUFFIX);
+        try {
+            Files.writeString(tempRef, Long.toString(refCount), StandardCharsets.US_ASCII);
+            Files.move(tempRef, refPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempRef);
+        }
+    }
+
+    /**
+     * 저장 파일별 참조 카운트 잠금 (파일명 기준이므로 배치 이동 전후 경로가 같은 잠금을 사용)
+     *
+     * @param blobPath
+     * @return
+     */
+    static ReentrantLock lockFor(Path blobPath) {
+        return LOCKS[Math.floorMod(blobPath.getFileName().toString().hashCode(), LOCKS.length)];
+    }
+
+    private static MessageDigest newDigest(String hashAlgorithm) {
+        try {
+            return MessageDigest.getInstance(hashAlgorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("지원하지 않는 해시 알고리즘입니다: " + hashAlgorithm, e);
+        }
+    }
+}
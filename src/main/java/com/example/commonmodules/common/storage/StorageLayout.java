@@ -0,0 +1,43 @@
+package com.example.commonmodules.common.storage;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * 업로드 디렉토리 내부의 파일 배치 전략
+ * - 기본 제공 전략은 StorageLayoutType (file.upload.layout 설정)
+ * - StorageLayout 빈을 등록하면 설정 대신 해당 빈을 사용
+ */
+public interface StorageLayout {
+
+    /**
+     * 저장 경로 계산
+     *
+     * @param baseDirectory 업로드 타입별 디렉토리 (ROOT_PATH + UploadFileType.code)
+     * @param fileName      저장 파일명
+     * @param storedAt      저장 시각
+     * @return
+     */
+    Path resolve(Path baseDirectory, String fileName, Instant storedAt);
+
+    /**
+     * 현재 시각 기준 저장 경로 계산
+     *
+     * @param baseDirectory
+     * @param fileName
+     * @return
+     */
+    default Path resolve(Path baseDirectory, String fileName) {
+        return resolve(baseDirectory, fileName, Instant.now());
+    }
+
+    /**
+     * 파일명만으로 경로를 다시 계산할 수 있는지 여부
+     * (false일 경우 내용 기반 저장 등 파일명으로 조회하는 기능에서는 사용하지 않음)
+     *
+     * @return
+     */
+    default boolean isDeterministic() {
+        return true;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.commonmodules.common.storage;
+
+import com.example.commonmodules.common.config.FileUploadConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * 단일 디렉토리에 저장된 기존 파일을 배치 전략(StorageLayout)에 맞게 이동하는 유틸
+ * - 백그라운드 스레드 하나에서 초당 이동 파일 수를 제한하여 실행 (file.upload.migration-files-per-second)
+ * - 이동된 파일의 경로가 바뀌므로 DB 등에 저장된 파일경로는 onMoved 콜백에서 갱신해야 한다
+ * - 내용 기반 저장 파일(.ref 존재)은 ContentAddressedFileStore.blobLayout 규칙으로, 참조 카운트 잠금을 잡은 상태에서 이동
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageLayoutMigrator {
+
+    private final FileUploadConfig fileUploadProperties;
+    private final ObjectProvider<StorageLayout> storageLayoutProvider;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(daemonThreadFactory());
+
+    /**
+     * 이동 결과
+     *
+     * @param moved   이동한 파일 수
+     * @param skipped 이미 배치되어 있거나 대상 경로에 파일이 있어 건너뛴 파일 수
+     * @param failed  이동 중 오류가 발생한 파일 수
+     */
+    public record MigrationResult(long moved, long skipped, long failed) {
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 업로드 타입 디렉토리를 현재 설정된 배치 전략으로 이동
+     *
+     * @param uploadFileType
+     * @param onMoved        (기존 경로, 이동된 경로) 콜백
+     * @return
+     */
+    public CompletableFuture<MigrationResult> migrate(UploadCategory uploadFileType, BiConsumer<Path, Path> onMoved) {
+        StorageLayout layout = storageLayoutProvider.getIfAvailable(fileUploadProperties::getLayout);
+        Path directory = Paths.get(fileUploadProperties.getRootPath(), uploadFileType.getCode());
+        return migrate(directory, layout, fileUploadProperties.getMigrationFilesPerSecond(), onMoved);
+    }
+
+    /**
+     * 디렉토리 바로 아래의 파일을 배치 전략에 맞게 이동
+     *
+     * @param directory
+     * @param layout
+     * @param filesPerSecond 초당 이동 파일 수 (0 이하: 제한 없음)
+     * @param onMoved        (기존 경로, 이동된 경로) 콜백
+     * @return
+     */
+    public CompletableFuture<MigrationResult> migrate(Path directory, StorageLayout layout, int filesPerSecond, BiConsumer<Path, Path> onMoved) {
+        return CompletableFuture.supplyAsync(() -> doMigrate(directory, layout, filesPerSecond, onMoved), executor);
+    }
+
+    private MigrationResult doMigrate(Path directory, StorageLayout layout, int filesPerSecond, BiConsumer<Path, Path> onMoved) {
+        long intervalNanos = filesPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / filesPerSecond : 0;
+        long nextAllowed = System.nanoTime();
+        long moved = 0;
+        long skipped = 0;
+        long failed = 0;
+
+        log.info("파일 배치 이동 시작: {} -> {}", directory, layout);
+
+        // DirectoryStream은 목록을 한 번에 메모리에 올리지 않음
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+            for (Path source : stream) {
+                String fileName = source.getFileName().toString();
+
+                // 참조 카운트 파일은 원본 파일과 함께 이동, 작업중인 임시파일은 제외
+                if (fileName.endsWith(ContentAddressedFileStore.REF_SUFFIX) || fileName.startsWith(".")) {
+                    continue;
+                }
+
+                if (Thread.currentThread().isInterrupted()) {
+                    log.warn("파일 배치 이동이 중단되었습니다: {}", directory);
+                    break;
+                }
+
+                // 초당 이동 수 제한
+                if (intervalNanos > 0) {
+                    long waitNanos = nextAllowed - System.nanoTime();
+                    if (waitNanos > 0) {
+                        LockSupport.parkNanos(waitNanos);
+                    }
+                    nextAllowed = Math.max(nextAllowed, System.nanoTime() - intervalNanos) + intervalNanos;
+                }
+
+                try {
+                    // 내용 기반 저장 파일은 중복 제거시 찾는 경로(해시 파일명 기준 배치)로만 이동
+                    boolean managed = ContentAddressedFileStore.isManaged(source);
+                    StorageLayout targetLayout = managed ? ContentAddressedFileStore.blobLayout(layout) : layout;
+                    Path target = targetLayout.resolve(directory, fileName, Files.getLastModifiedTime(source).toInstant());
+                    if (target.equals(source)) {
+                        skipped++;
+                        continue;
+                    }
+
+                    if (managed) {
+                        if (!ContentAddressedFileStore.moveBlob(source, target)) {
+                            skipped++;
+                            continue;
+                        }
+                    } else {
+                        Files.createDirectories(target.getParent());
+                        Files.move(source, target);
+                    }
+
+                    if (onMoved != null) {
+                        onMoved.accept(source, target);
+                    }
+                    moved++;
+                } catch (FileAlreadyExistsException e) {
+                    log.warn("대상 경로에 파일이 이미 존재하여 건너뜁니다: {}", e.getFile());
+                    skipped++;
+                } catch (IOException | RuntimeException e) {
+                    log.warn("파일 이동 중 오류가 발생했습니다: {}", source, e);
+                    failed++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("파일 배치 이동 대상 디렉토리를 읽을 수 없습니다: {}", directory, e);
+        }
+
+        log.info("파일 배치 이동 완료: {} (이동 {}건, 건너뜀 {}건, 실패 {}건)", directory, moved, skipped, failed);
+        return new MigrationResult(moved, skipped, failed);
+    }
+
+    private static CustomizableThreadFactory daemonThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("storage-migration-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.commonmodules.common.storage;
+
+import com.example.commonmodules.common.enums.file.UploadFileType.FileExtType;
+
+import java.util.Set;
+
+/**
+ * 업로드 분류 (저장 디렉토리 + 허용 확장자)
+ * - 기본 제공 분류는 UploadFileType
+ * - enum 을 수정하지 않고 추가할 분류는 file.upload.types 설정 또는 UploadCategoryRegistry.register 로 등록
+ */
+public interface UploadCategory {
+
+    /**
+     * 업로드 디렉토리 (ROOT_PATH 기준, ex. /sample)
+     *
+     * @return
+     */
+    String getCode();
+
+    /**
+     * 분류명
+     *
+     * @return
+     */
+    String getCodeName();
+
+    /**
+     * 허용 확장자 (변경 불가 Set)
+     *
+     * @return
+     */
+    Set<FileExtType> getAllowedExtTypes();
+
+    /**
+     * 파일명의 확장자가 허용된 확장자인지 확인 (대소문자 구분 없음, 문자열 생성 없음)
+     *
+     * @param fileName
+     * @return 허용된 확장자이면 해당 FileExtType, 아니면 null
+     */
+    default FileExtType matchExtension(CharSequence fileName) {
+        FileExtType fileExtType = FileExtType.fromFileName(fileName);
+        return fileExtType != null && getAllowedExtTypes().contains(fileExtType) ? fileExtType : null;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.commonmodules.common.storage;
+
+import com.example.commonmodules.common.config.FileUploadConfig;
+import com.example.commonmodules.common.enums.common.ApiReturnCode;
+import com.example.commonmodules.common.enums.file.UploadFileType;
+import com.example.commonmodules.common.enums.file.UploadFileType.FileExtType;
+import com.example.commonmodules.common.exception.BusinessException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업로드 분류 조회/등록
+ * - UploadFileType(enum) 과 file.upload.types 설정 분류를 이름으로 조회
+ * - 그 외 분류는 기동 시 register 로 등록 (enum 수정 없이 분류 추가)
+ *
+ * <pre>
+ * file:
+ *   upload:
+ *     types:
+ *       NOTICE:
+ *         code: /notice
+ *         code-name: 공지사항 첨부파일
+ *         file-ext-types: PDF, PNG
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadCategoryRegistry {
+
+    private final FileUploadConfig fileUploadProperties;
+
+    private final Map<String, UploadCategory> categories = new ConcurrentHashMap<>();
+
+    /**
+     * 설정으로 등록하는 업로드 분류 (허용 확장자 Set 은 등록 시 한 번만 생성)
+     */
+    private record ConfiguredUploadCategory(String code, String codeName, Set<FileExtType> allowedExtTypes)
+            implements UploadCategory {
+
+        @Override
+        public String getCode() {
+            return code;
+        }
+
+        @Override
+        public String getCodeName() {
+            return codeName;
+        }
+
+        @Override
+        public Set<FileExtType> getAllowedExtTypes() {
+            return allowedExtTypes;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        for (UploadFileType uploadFileType : UploadFileType.values()) {
+            categories.put(uploadFileType.name(), uploadFileType);
+        }
+
+        fileUploadProperties.getTypes().forEach((name, type) ->
+                register(name, type.getCode(), type.getCodeName(), type.getFileExtTypes()));
+    }
+
+    /**
+     * 업로드 분류 등록
+     *
+     * @param name         분류 이름 (조회 key)
+     * @param code         업로드 디렉토리 (ex. /notice)
+     * @param codeName     분류명
+     * @param fileExtTypes 허용 확장자
+     * @return 등록된 분류
+     */
+    public UploadCategory register(String name, String code, String codeName, Collection<FileExtType> fileExtTypes) {
+        if (!StringUtils.hasText(code) || fileExtTypes == null || fileExtTypes.isEmpty()) {
+            throw new IllegalArgumentException("업로드 분류 [" + name + "] 의 code, file-ext-types 는 필수입니다.");
+        }
+
+        UploadCategory category = new ConfiguredUploadCategory(code, codeName,
+                Collections.unmodifiableSet(EnumSet.copyOf(fileExtTypes)));
+        register(name, category);
+        return category;
+    }
+
+    /**
+     * 업로드 분류 등록
+     *
+     * @param name     분류 이름 (조회 key)
+     * @param category
+     */
+    public void register(String name, UploadCategory category) {
+        if (categories.putIfAbsent(name, category) != null) {
+            throw new IllegalStateException("이미 등록된 업로드 분류입니다: " + name);
+        }
+        log.info("업로드 분류 등록: {} ({}, 허용 확장자: {})", name, category.getCode(), category.getAllowedExtTypes());
+    }
+
+    /**
+     * 이름으로 업로드 분류 조회
+     *
+     * @param name
+     * @return
+     */
+    public Optional<UploadCategory> find(String name) {
+        return Optional.ofNullable(categories.get(name));
+    }
+
+    /**
+     * 이름으로 업로드 분류 조회 (없으면 FILE_UPLOAD_ERROR)
+     *
+     * @param name
+     * @return
+     */
+    public UploadCategory get(String name) {
+        return find(name).orElseThrow(() -> new BusinessException(ApiReturnCode.FILE_UPLOAD_ERROR));
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.commonmodules.common.utils;
+
+import com.example.commonmodules.common.config.FileUploadConfig;
+import com.example.commonmodules.common.enums.common.ApiReturnCode;
+import com.example.commonmodules.common.exception.BusinessException;
+import com.example.commonmodules.common.storage.UploadCategory;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 파일 다운로드 관련 util
+ * - Range 요청(206), ETag / Last-Modified 조건부 요청(304) 지원
+ * - Tomcat sendfile 또는 FileChannel.transferTo 로 전송하여 파일 내용을 heap에 올리지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileDownloadUtils {
+
+    private static final String BYTES = "bytes";
+
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final FileUploadConfig fileUploadProperties;
+
+    private static String CACHE_CONTROL;
+
+    @PostConstruct
+    public void init() {
+        CACHE_CONTROL = CacheControl.maxAge(fileUploadProperties.getDownloadCacheMaxAge()).cachePrivate().getHeaderValue();
+    }
+
+    /**
+     * 업로드 타입과 저장 파일명으로 파일 전송
+     * - 날짜 기준 배치 전략(file.upload.layout=DATE)에서는 FILE_PATH_UNRESOLVABLE_ERROR (저장된 filePath 로 전송해야 함)
+     *
+     * @param request
+     * @param response
+     * @param uploadFileType
+     * @param saveFileName     저장 파일명
+     * @param downloadFileName 다운로드 파일명 (null 이면 inline 응답)
+     * @throws IOException
+     */
+    public static void serve(HttpServletRequest request, HttpServletResponse response,
+                             UploadCategory uploadFileType, String saveFileName, String downloadFileName) throws IOException {
+        serve(request, response, FileUtils.resolveFilePath(uploadFileType, saveFileName), downloadFileName);
+    }
+
+    /**
+     * 저장된 파일 전송
+     *
+     * @param request
+     * @param response
+     * @param filePath         업로드 결과의 filePath
+     * @param downloadFileName 다운로드 파일명 (null 이면 inline 응답)
+     * @throws IOException
+     */
+    public static void serve(HttpServletRequest request, HttpServletResponse response,
+                             Path filePath, String downloadFileName) throws IOException {
+
+        // 업로드 루트 밖의 파일(루트 밖을 가리키는 심볼릭 링크 포함)은 전송하지 않음
+        if (!Files.isRegularFile(filePath) || !FileUtils.isUnderRootPath(filePath)) {
+            throw new BusinessException(ApiReturnCode.NO_FILE_DATA_ERROR);
+        }
+
+        long length = Files.size(filePath);
+        long lastModified = Files.getLastModifiedTime(filePath).toMillis();
+        String eTag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        // If-None-Match / If-Modified-Since 등 조건부 요청 처리 (304, 412)
+        if (new ServletWebRequest(request, response).checkNotModified(eTag, lastModified)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES);
+        if (CACHE_CONTROL != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        response.setContentType(MediaTypeFactory.getMediaType(filePath.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        if (downloadFileName != null) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(downloadFileName, StandardCharsets.UTF_8).build().toString());
+        }
+
+        long start = 0;
+        long end = length - 1;
+
+        // 단일 Range 요청만 부분 응답, 다중 Range 요청은 전체 응답
+        HttpRange range = getSingleRange(request, eTag, lastModified);
+        if (range != null) {
+            start = range.getRangeStart(length);
+            end = Math.min(range.getRangeEnd(length), length - 1);
+            if (start >= length || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES + " */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES + " " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        // Tomcat sendfile 지원시 커널 단 전송 (응답 본문은 컨테이너가 기록)
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, filePath.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        transfer(filePath, start, count, response);
+    }
+
+    /**
+     * FileChannel.transferTo 로 응답 스트림에 전송
+     */
+    private static void transfer(Path filePath, long start, long count, HttpServletResponse response) throws IOException {
+        try (FileChannel source = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = source.transferTo(position, remaining, target);
+                if (transferred <= 0) break;
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * 적용할 단일 Range 추출
+     * - Range 헤더가 없거나 형식이 잘못된 경우, If-Range 조건이 맞지 않는 경우, 다중 Range인 경우 null
+     */
+    private static HttpRange getSingleRange(HttpServletRequest request, String eTag, long lastModified) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return null;
+        }
+
+        try {
+            String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+            if (ifRange != null) {
+                boolean matched = ifRange.startsWith("\"") || ifRange.startsWith("W/")
+                        ? ifRange.equals(eTag)
+                        : request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+                if (!matched) {
+                    return null;
+                }
+            }
+
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 Range / If-Range 헤더입니다: {}", rangeHeader);
+            return null;
+        }
+    }
+}
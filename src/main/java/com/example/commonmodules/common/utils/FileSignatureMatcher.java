@@ -0,0 +1,148 @@
+package com.example.commonmodules.common.utils;
+
+import com.example.commonmodules.common.enums.file.UploadFileType.FileExtType;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 파일 앞부분 magic byte 로 실제 파일 형식 확인
+ * - FileExtType 의 signature 를 byte 단위 prefix trie 로 미리 구성하여, 파일 앞 몇 byte(최대 signature 길이)만 읽고 한 번 순회로 판별
+ * - 파일 전체를 읽지 않으므로 검사 비용은 파일 크기와 무관
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE) // 인스턴스화 방지를 위한 private 생성자
+public final class FileSignatureMatcher {
+
+    private static final Node ROOT = new Node();
+    private static final int MAX_SIGNATURE_LENGTH;
+
+    // signature 가 없는 형식 (내용 검사 대상 아님)
+    private static final Set<FileExtType> UNCHECKED = EnumSet.noneOf(FileExtType.class);
+
+    static {
+        int maxLength = 0;
+        for (FileExtType fileExtType : FileExtType.values()) {
+            if (fileExtType.getSignatures().length == 0) {
+                UNCHECKED.add(fileExtType);
+            }
+            for (byte[] signature : fileExtType.getSignatures()) {
+                Node node = ROOT;
+                for (byte b : signature) {
+                    node = node.child(b);
+                }
+                node.types.add(fileExtType);
+                maxLength = Math.max(maxLength, signature.length);
+            }
+        }
+        MAX_SIGNATURE_LENGTH = maxLength;
+    }
+
+    private static final class Node {
+        private final Node[] children = new Node[256];
+        private final Set<FileExtType> types = EnumSet.noneOf(FileExtType.class);   // 이 노드에서 signature 가 끝나는 형식
+
+        private Node child(byte b) {
+            int index = b & 0xFF;
+            if (children[index] == null) {
+                children[index] = new Node();
+            }
+            return children[index];
+        }
+    }
+
+    /**
+     * 판별에 필요한 최대 byte 수
+     *
+     * @return
+     */
+    public static int getMaxSignatureLength() {
+        return MAX_SIGNATURE_LENGTH;
+    }
+
+    /**
+     * 업로드 파일 내용이 해당 형식인지 확인 (앞부분 signature 길이만큼만 읽음)
+     *
+     * @param file
+     * @param fileExtType
+     * @return signature 가 없는 형식이면 항상 true
+     * @throws IOException
+     */
+    public static boolean matches(MultipartFile file, FileExtType fileExtType) throws IOException {
+        if (UNCHECKED.contains(fileExtType)) {
+            return true;
+        }
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return matches(inputStream, fileExtType);
+        }
+    }
+
+    /**
+     * 스트림 앞부분이 해당 형식인지 확인 (스트림은 닫지 않음)
+     *
+     * @param inputStream
+     * @param fileExtType
+     * @return
+     * @throws IOException
+     */
+    public static boolean matches(InputStream inputStream, FileExtType fileExtType) throws IOException {
+        if (UNCHECKED.contains(fileExtType)) {
+            return true;
+        }
+
+        byte[] header = new byte[MAX_SIGNATURE_LENGTH];
+        int length = inputStream.readNBytes(header, 0, header.length);
+        return matches(header, length, fileExtType);
+    }
+
+    /**
+     * 파일 앞부분 byte 가 해당 형식인지 확인
+     *
+     * @param header
+     * @param length header 중 유효한 길이
+     * @param fileExtType
+     * @return
+     */
+    public static boolean matches(byte[] header, int length, FileExtType fileExtType) {
+        if (UNCHECKED.contains(fileExtType)) {
+            return true;
+        }
+
+        Node node = ROOT;
+        for (int i = 0; i < length; i++) {
+            node = node.children[header[i] & 0xFF];
+            if (node == null) {
+                return false;
+            }
+            if (node.types.contains(fileExtType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 파일 앞부분 byte 로 형식 판별
+     *
+     * @param header
+     * @param length header 중 유효한 길이
+     * @return 일치하는 형식 (JPG/JPEG 처럼 같은 signature 를 쓰는 형식은 모두 포함, 없으면 빈 Set)
+     */
+    public static Set<FileExtType> detect(byte[] header, int length) {
+        Set<FileExtType> detected = EnumSet.noneOf(FileExtType.class);
+        Node node = ROOT;
+        for (int i = 0; i < length; i++) {
+            node = node.children[header[i] & 0xFF];
+            if (node == null) {
+                break;
+            }
+            detected.addAll(node.types);
+        }
+        return detected;
+    }
+}
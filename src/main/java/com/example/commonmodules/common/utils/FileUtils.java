@@ -3,23 +3,51 @@ package com.example.commonmodules.common.utils;
 import com.example.commonmodules.common.config.FileUploadConfig;
 import com.example.commonmodules.common.dto.FileUploadResult;
 import com.example.commonmodules.common.enums.common.ApiReturnCode;
+import com.example.commonmodules.common.enums.file.StorageLayoutType;
 import com.example.commonmodules.common.enums.file.UploadFileType;
+import com.example.commonmodules.common.enums.file.UploadTransferMode;
 import com.example.commonmodules.common.exception.BusinessException;
+import com.example.commonmodules.common.storage.ContentAddressedFileStore;
+import com.example.commonmodules.common.storage.StorageLayout;
+import com.example.commonmodules.common.storage.UploadCategory;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 파일관련 util
@@ -30,14 +58,80 @@ import java.util.UUID;
 public class FileUtils {
 
     private final FileUploadConfig fileUploadProperties;
+    private final ObjectProvider<StorageLayout> storageLayoutProvider;
 
     private static String ROOT_PATH;
     private static long FILE_MAX_SIZE; // 10MB
+    private static UploadTransferMode TRANSFER_MODE = UploadTransferMode.COPY;
+    private static int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static boolean DEDUP_ENABLED;
+    private static String HASH_ALGORITHM = "SHA-256";
+    private static StorageLayout STORAGE_LAYOUT = StorageLayoutType.FLAT;
+    private static boolean CONTENT_CHECK_ENABLED;
+
+    // STREAM 방식에서 재사용할 direct buffer pool (업로드마다 버퍼를 새로 할당하지 않기 위함)
+    // - 스레드별(ThreadLocal)로 두면 virtual thread 마다 direct buffer 가 생성되므로, 동시 저장 수만큼만 만들어 재사용
+    // - pool 이 비어 있고 최대 개수만큼 만들어졌으면 heap buffer 사용 (direct memory 사용량 상한 = 동시 저장 수 x 버퍼 크기)
+    private static int STREAM_BUFFER_POOL_SIZE = 1;
+    private static BlockingQueue<ByteBuffer> STREAM_BUFFER_POOL = new ArrayBlockingQueue<>(STREAM_BUFFER_POOL_SIZE);
+    private static final AtomicInteger STREAM_BUFFER_ALLOCATED = new AtomicInteger();
+
+    // 다건 업로드용 executor (virtual thread 사용시 동시 저장 수는 semaphore로 제한)
+    private static ExecutorService BATCH_EXECUTOR;
+    private static Semaphore BATCH_PERMITS;
 
     @PostConstruct
     public void init() {
         ROOT_PATH = fileUploadProperties.getRootPath();
         FILE_MAX_SIZE = fileUploadProperties.getFileMaxSize();
+        TRANSFER_MODE = fileUploadProperties.getTransferMode();
+        STREAM_BUFFER_SIZE = fileUploadProperties.getStreamBufferSize();
+        DEDUP_ENABLED = fileUploadProperties.isDedupEnabled();
+        HASH_ALGORITHM = fileUploadProperties.getHashAlgorithm();
+        STORAGE_LAYOUT = storageLayoutProvider.getIfAvailable(fileUploadProperties::getLayout);
+        CONTENT_CHECK_ENABLED = fileUploadProperties.isContentCheckEnabled();
+
+        int parallelism = fileUploadProperties.getBatchParallelism() > 0
+                ? fileUploadProperties.getBatchParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        STREAM_BUFFER_POOL_SIZE = parallelism;
+        STREAM_BUFFER_POOL = new ArrayBlockingQueue<>(parallelism);
+        STREAM_BUFFER_ALLOCATED.set(0);
+        initBatchExecutor(parallelism);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (BATCH_EXECUTOR != null) {
+            BATCH_EXECUTOR.shutdown();
+        }
+    }
+
+    /**
+     * 다건 업로드용 executor 생성
+     * - JDK 21 이상 + virtual-threads 설정시 virtual thread executor 사용
+     * - 그 외에는 batch-parallelism 크기의 고정 스레드풀 사용
+     *
+     * @param parallelism 동시 저장 수
+     */
+    private void initBatchExecutor(int parallelism) {
+        if (fileUploadProperties.isVirtualThreads()) {
+            try {
+                // JDK 17 컴파일 환경이므로 reflection으로 조회
+                BATCH_EXECUTOR = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                BATCH_PERMITS = new Semaphore(parallelism);
+                log.info("파일 다건 업로드 executor: virtual thread (동시 저장 {}건)", parallelism);
+                return;
+            } catch (ReflectiveOperationException e) {
+                log.info("virtual thread를 지원하지 않는 JDK 입니다. 고정 스레드풀을 사용합니다.");
+            }
+        }
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("file-upload-");
+        threadFactory.setDaemon(true);
+        BATCH_EXECUTOR = Executors.newFixedThreadPool(parallelism, threadFactory);
+        BATCH_PERMITS = null;
+        log.info("파일 다건 업로드 executor: fixed thread pool ({}개)", parallelism);
     }
 
     /**
@@ -48,22 +142,168 @@ public class FileUtils {
      * @return
      * @throws IOException
      */
-    public static FileUploadResult uploadFile(MultipartFile file, UploadFileType uploadFileType) throws IOException {
+    public static FileUploadResult uploadFile(MultipartFile file, UploadCategory uploadFileType) throws IOException {
 
         // 파일 validate
         validateFile(file, uploadFileType);
 
+        return storeFile(file, uploadFileType);
+    }
+
+    /**
+     * 파일 다건 업로드
+     * - 모든 파일을 먼저 validate 한 뒤 병렬로 저장
+     * - 하나라도 실패하면 이미 저장된 파일을 삭제하고 예외를 던짐 (all-or-nothing)
+     *
+     * @param files
+     * @param uploadFileType
+     * @return 입력 순서와 동일한 순서의 업로드 결과
+     * @throws IOException
+     */
+    public static List<FileUploadResult> uploadFiles(List<MultipartFile> files, UploadCategory uploadFileType) throws IOException {
+
+        if (ObjectUtils.isEmpty(files)) {
+            throw new BusinessException(ApiReturnCode.FILE_UPLOAD_ERROR);
+        }
+
+        // 전체 파일 validate (저장 전에 실패시키기 위함)
+        files.forEach(file -> validateFile(file, uploadFileType));
+
+        if (files.size() == 1 || BATCH_EXECUTOR == null) {
+            return uploadSequentially(files, uploadFileType);
+        }
+
+        // 실패시 rollback 대상 (작업 안에서 기록하므로 결과를 받기 전에 끝난 저장도 포함)
+        List<FileUploadResult> stored = Collections.synchronizedList(new ArrayList<>(files.size()));
+        AtomicBoolean aborted = new AtomicBoolean();
+
+        List<Future<FileUploadResult>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(BATCH_EXECUTOR.submit(withPermit(() -> {
+                // 실패 이후 시작되는 저장 작업은 건너뜀
+                if (aborted.get()) {
+                    return null;
+                }
+                FileUploadResult result = storeFile(file, uploadFileType);
+                stored.add(result);
+                return result;
+            })));
+        }
+
+        // 실패/인터럽트 이후에도 실행 중인 저장 작업이 끝날 때까지 기다린 뒤 rollback (파일이 남지 않도록)
+        List<FileUploadResult> results = new ArrayList<>(files.size());
+        Throwable failure = null;
+        boolean interrupted = false;
+        for (Future<FileUploadResult> future : futures) {
+            while (true) {
+                try {
+                    results.add(future.get());
+                    break;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                        aborted.set(true);
+                    }
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    if (failure == null) {
+                        failure = e;
+                        aborted.set(true);
+                    }
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (failure != null) {
+            rollbackUploadedFiles(stored);
+            if (failure instanceof IOException ioException) throw ioException;
+            if (failure instanceof RuntimeException runtimeException) throw runtimeException;
+            if (failure instanceof Error error) throw error;
+            throw new IOException(failure);
+        }
+
+        return results;
+    }
+
+    /**
+     * 파일 다건 순차 업로드 (실패시 저장된 파일 삭제)
+     */
+    private static List<FileUploadResult> uploadSequentially(List<MultipartFile> files, UploadCategory uploadFileType) throws IOException {
+        List<FileUploadResult> results = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                results.add(storeFile(file, uploadFileType));
+            }
+        } catch (IOException | RuntimeException e) {
+            rollbackUploadedFiles(results);
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * virtual thread 사용시 동시 저장 수 제한
+     */
+    private static <T> Callable<T> withPermit(Callable<T> task) {
+        Semaphore permits = BATCH_PERMITS;
+        if (permits == null) {
+            return task;
+        }
+
+        return () -> {
+            permits.acquire();
+            try {
+                return task.call();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    /**
+     * 다건 업로드 실패시 이미 저장된 파일 삭제
+     */
+    private static void rollbackUploadedFiles(List<FileUploadResult> results) {
+        for (FileUploadResult result : results) {
+            try {
+                deleteStoredFile(Paths.get(result.getFilePath()));
+            } catch (IOException e) {
+                log.warn("업로드 실패 파일 삭제 중 오류가 발생했습니다: {}", result.getFilePath(), e);
+            }
+        }
+    }
+
+    /**
+     * validate가 끝난 파일을 서버에 저장
+     *
+     * @param file
+     * @param uploadFileType
+     * @return
+     * @throws IOException
+     */
+    private static FileUploadResult storeFile(MultipartFile file, UploadCategory uploadFileType) throws IOException {
+
+        // 내용 기반 저장 (동일 내용은 한 번만 저장)
+        if (DEDUP_ENABLED) {
+            return storeContentAddressed(file, uploadFileType);
+        }
+
         // 서버에 파일 저장시 uuid 값으로 변경
         String saveFileName = getFileNameWithUUID(file.getOriginalFilename());
 
-        // 저장 경로 설정
-        Path filePath = Paths.get(ROOT_PATH, uploadFileType.getCode(), saveFileName);
+        // 저장 경로 설정 (file.upload.layout 배치 전략 적용)
+        Path filePath = STORAGE_LAYOUT.resolve(Paths.get(ROOT_PATH, uploadFileType.getCode()), saveFileName);
 
         // 디렉토리 없을 경우 생성
         Files.createDirectories(filePath.getParent());
 
         // 파일 저장(중복시 덮어쓰기)
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        writeFile(file, filePath);
 
         log.info("파일 저장 경로: {}", filePath.toAbsolutePath());
         log.info("파일 저장 경로에  파일 존재 여부: {}", Files.exists(filePath));
@@ -77,12 +317,109 @@ public class FileUtils {
                 .build();
     }
 
+    /**
+     * 내용 해시를 파일명으로 저장 (file.upload.dedup-enabled)
+     * - 해시 계산을 위해 스트림을 읽어야 하므로 transfer-mode 설정은 적용되지 않음
+     *
+     * @param file
+     * @param uploadFileType
+     * @return
+     * @throws IOException
+     */
+    private static FileUploadResult storeContentAddressed(MultipartFile file, UploadCategory uploadFileType) throws IOException {
+        // 같은 내용이 확장자 표기(.PNG/.png, .jpeg/.jpg)만 달라 중복 저장되지 않도록 대표 확장자 사용
+        String originalFilename = Objects.requireNonNull(file.getOriginalFilename());
+        UploadFileType.FileExtType fileExtType = uploadFileType.matchExtension(originalFilename);
+        String extension = fileExtType != null
+                ? fileExtType.getCanonical().getFileExt()
+                : getExtension(originalFilename).toLowerCase(Locale.ROOT);
+
+        // 해시 파일명으로 다시 찾을 수 있어야 하므로 날짜 기준 배치 전략 대신 해시 prefix 배치 사용
+        StorageLayout blobLayout = ContentAddressedFileStore.blobLayout(STORAGE_LAYOUT);
+        ContentAddressedFileStore.StoredBlob blob = ContentAddressedFileStore.store(
+                file, Paths.get(ROOT_PATH, uploadFileType.getCode()), blobLayout, extension, HASH_ALGORITHM);
+
+        log.info("파일 저장 경로: {} (신규 저장: {})", blob.blobPath().toAbsolutePath(), blob.created());
+
+        return FileUploadResult.builder()
+                .realFileNm(file.getOriginalFilename())
+                .saveFileNm(blob.blobPath().getFileName().toString())
+                .filePath(blob.blobPath().toString())
+                .fileSize(file.getSize())
+                .contentHash(blob.contentHash())
+                .build();
+    }
+
+    /**
+     * 설정된 저장 방식(file.upload.transfer-mode)에 따라 파일 저장
+     *
+     * @param file
+     * @param filePath
+     * @throws IOException
+     */
+    private static void writeFile(MultipartFile file, Path filePath) throws IOException {
+        switch (TRANSFER_MODE) {
+            // multipart resolver가 만든 임시파일을 이동(rename)하므로 JVM heap을 거치지 않음
+            // 상대경로일 경우 multipart 임시 디렉토리 기준으로 저장되므로 절대경로로 전달
+            case TRANSFER -> file.transferTo(filePath.toAbsolutePath().toFile());
+            case STREAM -> streamFile(file, filePath);
+            default -> Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * FileChannel 기반 스트리밍 저장
+     * - 재사용하는 고정 크기 direct buffer로 나눠서 기록 (파일 크기와 관계없이 버퍼 메모리 일정)
+     * - 임시파일로 저장된 part 를 복사 없이 옮기려면 TRANSFER 방식(MultipartFile.transferTo) 사용
+     *
+     * @param file
+     * @param filePath
+     * @throws IOException
+     */
+    private static void streamFile(MultipartFile file, Path filePath) throws IOException {
+        ByteBuffer buffer = acquireStreamBuffer();
+        try (InputStream inputStream = file.getInputStream();
+             ReadableByteChannel source = Channels.newChannel(inputStream);
+             FileChannel target = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            buffer.clear();
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+        } finally {
+            releaseStreamBuffer(buffer);
+        }
+    }
+
+    private static ByteBuffer acquireStreamBuffer() {
+        ByteBuffer buffer = STREAM_BUFFER_POOL.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+
+        if (STREAM_BUFFER_ALLOCATED.getAndIncrement() < STREAM_BUFFER_POOL_SIZE) {
+            return ByteBuffer.allocateDirect(STREAM_BUFFER_SIZE);
+        }
+        STREAM_BUFFER_ALLOCATED.decrementAndGet();
+        return ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+    }
+
+    private static void releaseStreamBuffer(ByteBuffer buffer) {
+        if (buffer.isDirect() && !STREAM_BUFFER_POOL.offer(buffer)) {
+            STREAM_BUFFER_ALLOCATED.decrementAndGet();
+        }
+    }
+
     /**
      * 파일 업로드시 validate
      *
      * @param file
      */
-    public static void validateFile(MultipartFile file, UploadFileType uploadFileType) {
+    public static void validateFile(MultipartFile file, UploadCategory uploadFileType) {
 
         if (ObjectUtils.isEmpty(file)) {
             throw new BusinessException(ApiReturnCode.FILE_UPLOAD_ERROR);
@@ -94,9 +431,23 @@ public class FileUtils {
         }
 
         // 파일 확장자
-        if (!uploadFileType.getFileExtTypes().contains(getExtension(Objects.requireNonNull(file.getOriginalFilename())))) {
+        UploadFileType.FileExtType fileExtType = uploadFileType.matchExtension(Objects.requireNonNull(file.getOriginalFilename()));
+        if (fileExtType == null) {
             throw new BusinessException(ApiReturnCode.FILE_EXTENSION_ERROR);
         }
+
+        // 파일 내용 (앞부분 magic byte 가 확장자 형식과 일치하는지)
+        if (CONTENT_CHECK_ENABLED && !matchesSignature(file, fileExtType)) {
+            throw new BusinessException(ApiReturnCode.FILE_CONTENT_ERROR);
+        }
+    }
+
+    private static boolean matchesSignature(MultipartFile file, UploadFileType.FileExtType fileExtType) {
+        try {
+            return FileSignatureMatcher.matches(file, fileExtType);
+        } catch (IOException e) {
+            throw new BusinessException(ApiReturnCode.FILE_UPLOAD_ERROR);
+        }
     }
 
     /**
@@ -119,6 +470,44 @@ public class FileUtils {
         return UUID.randomUUID().toString().replace("-", "") + "." + getExtension(fileName);
     }
 
+    /**
+     * 업로드 타입과 저장 파일명으로 저장 경로 계산 (uploadFile과 동일한 규칙)
+     * - 날짜 기준 배치 전략처럼 파일명만으로 경로를 알 수 없는 경우 업로드 결과의 filePath를 사용해야 함
+     *
+     * @param uploadFileType
+     * @param saveFileName
+     * @return
+     * @throws BusinessException 파일명으로 경로를 계산할 수 없는 배치 전략이면 FILE_PATH_UNRESOLVABLE_ERROR
+     */
+    public static Path resolveFilePath(UploadCategory uploadFileType, String saveFileName) {
+        if (!STORAGE_LAYOUT.isDeterministic()) {
+            log.warn("현재 배치 전략({})은 파일명으로 경로를 계산할 수 없습니다. 저장된 filePath를 사용하세요.", STORAGE_LAYOUT);
+            throw new BusinessException(ApiReturnCode.FILE_PATH_UNRESOLVABLE_ERROR);
+        }
+
+        // 경로 조작 방지
+        if (saveFileName == null || saveFileName.contains("/") || saveFileName.contains("\\") || saveFileName.contains("..")) {
+            throw new BusinessException(ApiReturnCode.NO_FILE_DATA_ERROR);
+        }
+
+        return STORAGE_LAYOUT.resolve(Paths.get(ROOT_PATH, uploadFileType.getCode()), saveFileName);
+    }
+
+    /**
+     * 업로드 루트 경로(file.upload.root-path) 하위의 파일인지 여부
+     * - 심볼릭 링크를 따라간 실제 경로(toRealPath)로 비교 (루트 안의 링크가 루트 밖을 가리키면 false)
+     *
+     * @param filePath
+     * @return 파일이 없거나 실제 경로가 루트 밖이면 false
+     */
+    public static boolean isUnderRootPath(Path filePath) {
+        try {
+            return filePath.toRealPath().startsWith(Paths.get(ROOT_PATH).toRealPath());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     /**
      * 서버에 저장된 파일 삭제
      *
@@ -131,6 +520,30 @@ public class FileUtils {
             throw new BusinessException(ApiReturnCode.NO_FILE_DATA_ERROR);
         }
 
+        // 내용 기반으로 저장된 파일은 마지막 참조일 때만 삭제
+        if (ContentAddressedFileStore.isManaged(deleteFile.toPath())) {
+            try {
+                return ContentAddressedFileStore.release(deleteFile.toPath());
+            } catch (IOException e) {
+                log.warn("파일 참조 해제 중 오류가 발생했습니다: {}", filePath, e);
+                return false;
+            }
+        }
+
         return deleteFile.delete();
     }
+
+    /**
+     * 저장된 파일 삭제 (내용 기반 파일은 참조 해제)
+     *
+     * @param filePath
+     * @throws IOException
+     */
+    private static void deleteStoredFile(Path filePath) throws IOException {
+        if (ContentAddressedFileStore.isManaged(filePath)) {
+            ContentAddressedFileStore.release(filePath);
+            return;
+        }
+        Files.deleteIfExists(filePath);
+    }
 }
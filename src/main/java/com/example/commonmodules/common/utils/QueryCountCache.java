@@ -0,0 +1,84 @@
+package com.example.commonmodules.common.utils;
+
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAQuery;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이징 count 쿼리 결과 캐시 (짧은 TTL)
+ * - count 쿼리의 JPQL 과 바인딩 값(검색 조건)을 키로 사용
+ * - 목록 화면처럼 같은 조건으로 페이지만 바꿔 조회하는 경우 count 쿼리를 다시 실행하지 않음
+ * - 전체 건수가 TTL 동안 실제와 다를 수 있으므로 정확한 건수가 필요한 곳에는 사용하지 않음
+ *
+ * <pre>
+ * private final QueryCountCache countCache = new QueryCountCache(Duration.ofSeconds(30), 1000);
+ * </pre>
+ */
+public final class QueryCountCache {
+
+    private final long ttlNanos;
+    private final LruCache<String, CachedCount> cache;
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+
+    /**
+     * @param ttl     캐시 유지 시간
+     * @param maxSize 최대 캐시 건수
+     */
+    public QueryCountCache(Duration ttl, int maxSize) {
+        this.ttlNanos = ttl.toNanos();
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    /**
+     * 캐시된 전체 건수 조회 (없거나 만료되면 count 쿼리 실행 후 저장)
+     *
+     * @param countQuery
+     * @return
+     */
+    public long getCount(JPAQuery<Long> countQuery) {
+        return getCount(keyOf(countQuery), () -> {
+            Long count = countQuery.fetchOne();
+            return count != null ? count : 0L;
+        });
+    }
+
+    /**
+     * 캐시된 전체 건수 조회 (없거나 만료되면 counter 실행 후 저장)
+     *
+     * @param key
+     * @param counter
+     * @return
+     */
+    public long getCount(String key, LongSupplier counter) {
+        long now = System.nanoTime();
+        CachedCount cached = cache.get(key);
+        if (cached != null && now - cached.expiresAt() < 0) {
+            return cached.count();
+        }
+
+        long count = counter.getAsLong();
+        cache.put(key, new CachedCount(count, now + ttlNanos));
+        return count;
+    }
+
+    /**
+     * 전체 캐시 비우기 (데이터 등록/삭제 후 즉시 반영이 필요한 경우)
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * count 쿼리 캐시 키 (JPQL + 바인딩 값)
+     */
+    private static String keyOf(JPAQuery<Long> countQuery) {
+        JPQLSerializer serializer = new JPQLSerializer(JPQLTemplates.DEFAULT);
+        serializer.serialize(countQuery.getMetadata(), false, null);
+        return serializer + "|" + serializer.getConstants();
+    }
+}
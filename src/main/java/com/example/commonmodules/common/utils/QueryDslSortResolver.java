@@ -0,0 +1,201 @@
+package com.example.commonmodules.common.utils;
+
+import com.example.commonmodules.common.exception.InvalidSortFieldException;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.PathBuilderValidator;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 허용된 정렬 필드만 OrderSpecifier 로 변환하는 resolver
+ * - 생성시 필드별/정렬 방향별 OrderSpecifier 를 미리 만들어두므로 요청마다 PathBuilder(리플렉션)를 사용하지 않음
+ * - 허용되지 않은 필드는 InvalidSortFieldException 발생
+ * - 스레드 안전하므로 repository 등에 static / 필드로 한 번만 생성하여 사용
+ *
+ * <pre>
+ * private static final QueryDslSortResolver SORT_RESOLVER = QueryDslSortResolver.builder(QSample.sample)
+ *         .allow("createdDate", "title", "sampleSn")
+ *         .allow("writer", QSample.sample.member.name)
+ *         .build();
+ *
+ * query.orderBy(SORT_RESOLVER.resolve(pageable.getSort()));
+ * </pre>
+ */
+public final class QueryDslSortResolver {
+
+    private static final OrderSpecifier<?>[] EMPTY = new OrderSpecifier<?>[0];
+    private static final OrderSpecifier.NullHandling[] NULL_HANDLINGS = OrderSpecifier.NullHandling.values();
+
+    private final Map<String, OrderSpecifier<?>[]> specifiers;
+    private final Set<String> allowedFields;
+
+    private QueryDslSortResolver(Map<String, OrderSpecifier<?>[]> specifiers, Set<String> allowedFields) {
+        this.specifiers = specifiers;
+        this.allowedFields = allowedFields;
+    }
+
+    /**
+     * resolver 생성
+     *
+     * @param entityPath 정렬 대상 엔티티 (Q 클래스)
+     * @return
+     */
+    public static Builder builder(EntityPath<?> entityPath) {
+        return new Builder(entityPath);
+    }
+
+    /**
+     * 허용된 정렬 필드
+     *
+     * @return
+     */
+    public Set<String> getAllowedFields() {
+        return allowedFields;
+    }
+
+    /**
+     * Sort 를 OrderSpecifier 배열로 변환
+     *
+     * @param sort
+     * @return
+     * @throws InvalidSortFieldException 허용되지 않은 필드인 경우
+     */
+    public OrderSpecifier<?>[] resolve(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return EMPTY;
+        }
+
+        OrderSpecifier<?>[] result = new OrderSpecifier<?>[(int) sort.stream().count()];
+        int i = 0;
+        for (Sort.Order order : sort) {
+            OrderSpecifier<?>[] fieldSpecifiers = specifiers.get(order.getProperty());
+            if (fieldSpecifiers == null) {
+                throw new InvalidSortFieldException(order.getProperty(), allowedFields);
+            }
+            result[i++] = fieldSpecifiers[index(order)];
+        }
+        return result;
+    }
+
+    /**
+     * query 에 정렬 적용
+     *
+     * @param query
+     * @param sort
+     * @return
+     */
+    public <T> JPAQuery<T> apply(JPAQuery<T> query, Sort sort) {
+        OrderSpecifier<?>[] orderSpecifiers = resolve(sort);
+        return orderSpecifiers.length > 0 ? query.orderBy(orderSpecifiers) : query;
+    }
+
+    /**
+     * 정렬 방향 / null 처리 / 대소문자 무시 조합별 인덱스
+     */
+    private static int index(Sort.Order order) {
+        int nullHandling = switch (order.getNullHandling()) {
+            case NULLS_FIRST -> OrderSpecifier.NullHandling.NullsFirst.ordinal();
+            case NULLS_LAST -> OrderSpecifier.NullHandling.NullsLast.ordinal();
+            default -> OrderSpecifier.NullHandling.Default.ordinal();
+        };
+        return index(order.isAscending() ? Order.ASC : Order.DESC, nullHandling, order.isIgnoreCase());
+    }
+
+    private static int index(Order direction, int nullHandling, boolean ignoreCase) {
+        return ((ignoreCase ? 2 : 0) + direction.ordinal()) * NULL_HANDLINGS.length + nullHandling;
+    }
+
+    public static final class Builder {
+
+        private final PathBuilder<?> pathBuilder;
+        private final Map<String, OrderSpecifier<?>[]> specifiers = new HashMap<>();
+        private final Set<String> allowedFields = new LinkedHashSet<>();
+
+        private Builder(EntityPath<?> entityPath) {
+            this.pathBuilder = new PathBuilder<>(entityPath.getType(), entityPath.getMetadata(), PathBuilderValidator.FIELDS);
+        }
+
+        /**
+         * 엔티티 필드명으로 정렬 허용 (연관 엔티티 필드는 member.name 형태)
+         * - 필드 선언 타입을 생성 시 한 번만 확인하여, String 필드는 대소문자 무시 정렬(Sort.Order.ignoreCase)이 적용되도록 StringPath 로 등록
+         *
+         * @param fields
+         * @return
+         * @throws IllegalArgumentException 엔티티에 없는 필드이거나 정렬할 수 없는(Comparable 이 아닌) 타입인 경우
+         */
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        public Builder allow(String... fields) {
+            for (String field : fields) {
+                PathBuilder<?> parent = pathBuilder;
+                Class<?> parentType = pathBuilder.getType();
+                String[] segments = field.split("\\.");
+                for (int i = 0; i < segments.length - 1; i++) {
+                    parentType = fieldType(parentType, segments[i], field);
+                    parent = parent.get(segments[i], parentType);
+                }
+
+                String name = segments[segments.length - 1];
+                Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(fieldType(parentType, name, field));
+                if (String.class.equals(type)) {
+                    allow(field, parent.getString(name));
+                } else if (Comparable.class.isAssignableFrom(type)) {
+                    allow(field, parent.getComparable(name, (Class) type));
+                } else {
+                    throw new IllegalArgumentException("정렬할 수 없는 타입의 필드입니다: " + field + " (" + type.getName() + ")");
+                }
+            }
+            return this;
+        }
+
+        private static Class<?> fieldType(Class<?> type, String name, String field) {
+            Field declared = ReflectionUtils.findField(type, name);
+            if (declared == null) {
+                throw new IllegalArgumentException("엔티티에 없는 정렬 필드입니다: " + field);
+            }
+            return declared.getType();
+        }
+
+        /**
+         * 정렬 필드명과 정렬 컬럼을 직접 지정하여 허용
+         *
+         * @param field 요청 정렬 필드명
+         * @param path  정렬 컬럼
+         * @return
+         */
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        public Builder allow(String field, ComparableExpressionBase<?> path) {
+            Expression ignoreCasePath = path instanceof StringExpression stringPath ? stringPath.lower() : path;
+
+            OrderSpecifier<?>[] fieldSpecifiers = new OrderSpecifier<?>[4 * NULL_HANDLINGS.length];
+            for (Order direction : Order.values()) {
+                for (OrderSpecifier.NullHandling nullHandling : NULL_HANDLINGS) {
+                    fieldSpecifiers[index(direction, nullHandling.ordinal(), false)] = new OrderSpecifier(direction, path, nullHandling);
+                    fieldSpecifiers[index(direction, nullHandling.ordinal(), true)] = new OrderSpecifier(direction, ignoreCasePath, nullHandling);
+                }
+            }
+
+            specifiers.put(field, fieldSpecifiers);
+            allowedFields.add(field);
+            return this;
+        }
+
+        public QueryDslSortResolver build() {
+            return new QueryDslSortResolver(Map.copyOf(specifiers), Collections.unmodifiableSet(new LinkedHashSet<>(allowedFields)));
+        }
+    }
+}
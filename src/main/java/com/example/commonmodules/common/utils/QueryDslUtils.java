@@ -1,4 +1,365 @@
 package com.example.commonmodules.common.utils;
 
-public class QueryDslUtils {
+import com.example.commonmodules.common.dto.KeysetSlice;
+import com.example.commonmodules.common.enums.common.ApiReturnCode;
+import com.example.commonmodules.common.exception.BusinessException;
+import com.querydsl.core.types.ConstantImpl;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * QueryDSL 관련 util
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE) // 인스턴스화 방지를 위한 private 생성자
+public final class QueryDslUtils {
+
+    private static final char CURSOR_SEPARATOR = ':';
+
+    /**
+     * keyset(seek) 페이징 정렬 키
+     *
+     * @param path      정렬 컬럼
+     * @param order     정렬 방향
+     * @param extractor 조회 결과에서 정렬 컬럼 값을 꺼내는 함수 (다음 커서 생성용)
+     * @param <T>       조회 결과 타입
+     * @param <V>       정렬 컬럼 타입
+     */
+    public record SeekKey<T, V extends Comparable<?>>(Expression<V> path, Order order, Function<T, V> extractor) {
+
+        public static <T, V extends Comparable<?>> SeekKey<T, V> asc(Expression<V> path, Function<T, V> extractor) {
+            return new SeekKey<>(path, Order.ASC, extractor);
+        }
+
+        public static <T, V extends Comparable<?>> SeekKey<T, V> desc(Expression<V> path, Function<T, V> extractor) {
+            return new SeekKey<>(path, Order.DESC, extractor);
+        }
+
+        public OrderSpecifier<V> toOrderSpecifier() {
+            return new OrderSpecifier<>(order, path);
+        }
+    }
+
+    /**
+     * 허용된 정렬 필드만 사용하는 정렬 resolver 생성 (필드별 OrderSpecifier 미리 생성)
+     *
+     * @param entityPath    정렬 대상 엔티티 (Q 클래스)
+     * @param allowedFields 허용할 정렬 필드
+     * @return
+     */
+    public static QueryDslSortResolver sortResolver(EntityPath<?> entityPath, String... allowedFields) {
+        return QueryDslSortResolver.builder(entityPath).allow(allowedFields).build();
+    }
+
+    /**
+     * offset 페이징 조회
+     * - 첫 페이지 조회 건수가 size 보다 적거나, 마지막 페이지로 전체 건수를 알 수 있으면 count 쿼리를 실행하지 않음
+     * - contentQuery 에 offset/limit 이 추가됨 (정렬은 호출측에서 적용)
+     *
+     * @param contentQuery 목록 조회 query
+     * @param countQuery   전체 건수 조회 query (select count)
+     * @param pageable
+     * @return
+     */
+    public static <T> Page<T> fetchPage(JPAQuery<T> contentQuery, JPAQuery<Long> countQuery, Pageable pageable) {
+        return fetchPage(contentQuery, pageable, () -> {
+            Long count = countQuery.fetchOne();
+            return count != null ? count : 0L;
+        });
+    }
+
+    /**
+     * offset 페이징 조회 (전체 건수는 count 캐시 사용)
+     * - 전체 건수가 캐시 TTL 동안 실제와 다를 수 있음
+     *
+     * @param contentQuery 목록 조회 query
+     * @param countQuery   전체 건수 조회 query (select count)
+     * @param pageable
+     * @param countCache
+     * @return
+     */
+    public static <T> Page<T> fetchPage(JPAQuery<T> contentQuery, JPAQuery<Long> countQuery, Pageable pageable, QueryCountCache countCache) {
+        return fetchPage(contentQuery, pageable, () -> countCache.getCount(countQuery));
+    }
+
+    /**
+     * 전체 건수 없이 다음 페이지 존재 여부만 조회 (count 쿼리 실행 안 함)
+     * - size + 1 건을 조회하여 다음 페이지 존재 여부 판단
+     *
+     * @param contentQuery 목록 조회 query
+     * @param pageable
+     * @return
+     */
+    public static <T> Slice<T> fetchSlice(JPAQuery<T> contentQuery, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(contentQuery.fetch(), pageable, false);
+        }
+
+        List<T> content = contentQuery
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = new ArrayList<>(content.subList(0, pageable.getPageSize()));
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private static <T> Page<T> fetchPage(JPAQuery<T> contentQuery, Pageable pageable, LongSupplier totalSupplier) {
+        if (pageable.isUnpaged()) {
+            List<T> content = contentQuery.fetch();
+            return new PageImpl<>(content, pageable, content.size());
+        }
+
+        List<T> content = contentQuery
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, totalSupplier);
+    }
+
+    /**
+     * 대용량 조회 결과를 한 건씩 읽는 Stream (forward-only 커서)
+     * - fetch size 힌트로 드라이버가 나누어 가져오고, 조회 결과는 읽기 전용으로 처리
+     * - DTO projection(Projections.constructor / fields) 사용 권장 (엔티티 조회시 forEach 로 주기적 clear)
+     * - 트랜잭션 안에서 사용하고 반드시 close 해야 함 (try-with-resources)
+     * - MySQL 은 useCursorFetch=true 설정이 있어야 fetch size 가 적용됨
+     *
+     * @param query
+     * @param fetchSize
+     * @return
+     */
+    public static <T> Stream<T> stream(JPAQuery<T> query, int fetchSize) {
+        return query
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .stream();
+    }
+
+    /**
+     * 대용량 조회 결과를 한 건씩 처리 (fetchSize 건마다 영속성 컨텍스트 clear)
+     * - 트랜잭션 안에서 사용해야 함
+     *
+     * @param query
+     * @param fetchSize
+     * @param entityManager
+     * @param consumer
+     * @return 처리 건수
+     */
+    public static <T> long forEach(JPAQuery<T> query, int fetchSize, EntityManager entityManager, Consumer<? super T> consumer) {
+        long count = 0;
+        try (Stream<T> stream = stream(query, fetchSize)) {
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                if (++count % fetchSize == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * keyset(seek) 페이징 조회
+     * - offset 대신 마지막 조회 데이터의 정렬 키 값 이후부터 조회하므로 깊은 페이지도 조회 비용이 일정함
+     * - 정렬 키의 마지막은 반드시 유일한 값(PK)이어야 하며, 정렬 키 값은 null 이 아니어야 함
+     * - 정렬 키 순서의 복합 인덱스가 있어야 효과가 있음
+     * - 전달한 query 에 조건/정렬/limit 이 추가됨
+     *
+     * <pre>
+     * KeysetSlice&lt;Sample&gt; slice = QueryDslUtils.fetchKeyset(
+     *         queryFactory.selectFrom(sample).where(condition),
+     *         List.of(SeekKey.desc(sample.createdDate, Sample::getCreatedDate),
+     *                 SeekKey.desc(sample.sampleSn, Sample::getSampleSn)),
+     *         cursor, size);
+     * </pre>
+     *
+     * @param query    조회 query (정렬 없이 전달)
+     * @param seekKeys 정렬 키 (마지막은 PK)
+     * @param cursor   이전 조회 결과의 nextCursor (첫 페이지는 null)
+     * @param size     조회 건수
+     * @return
+     */
+    public static <T> KeysetSlice<T> fetchKeyset(JPAQuery<T> query, List<? extends SeekKey<T, ?>> seekKeys, String cursor, int size) {
+        if (seekKeys == null || seekKeys.isEmpty()) {
+            throw new IllegalArgumentException("정렬 키는 필수입니다.");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다.");
+        }
+
+        if (cursor != null && !cursor.isEmpty()) {
+            query.where(seekPredicate(seekKeys, decodeCursor(cursor, seekKeys)));
+        }
+
+        OrderSpecifier<?>[] orderSpecifiers = new OrderSpecifier<?>[seekKeys.size()];
+        for (int i = 0; i < seekKeys.size(); i++) {
+            orderSpecifiers[i] = seekKeys.get(i).toOrderSpecifier();
+        }
+
+        // 다음 데이터 존재 여부 확인을 위해 1건 더 조회
+        List<T> content = query.orderBy(orderSpecifiers).limit(size + 1L).fetch();
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = new ArrayList<>(content.subList(0, size));
+        }
+
+        return KeysetSlice.<T>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeCursor(content.get(content.size() - 1), seekKeys) : null)
+                .build();
+    }
+
+    /**
+     * 조회 결과의 정렬 키 값으로 커서 생성
+     *
+     * @param item
+     * @param seekKeys
+     * @return
+     */
+    public static <T> String encodeCursor(T item, List<? extends SeekKey<T, ?>> seekKeys) {
+        // 값마다 "길이:값" 형태로 이어 붙여 구분자가 값에 포함되어도 분리 가능
+        StringBuilder sb = new StringBuilder(64);
+        for (SeekKey<T, ?> seekKey : seekKeys) {
+            Object value = seekKey.extractor().apply(item);
+            if (value == null) {
+                throw new IllegalStateException("keyset 페이징 정렬 키 값은 null 일 수 없습니다: " + seekKey.path());
+            }
+            String text = toCursorText(value);
+            sb.append(text.length()).append(CURSOR_SEPARATOR).append(text);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 정렬 키 값을 커서 문자열로 변환
+     * - enum 은 toString 재정의와 무관하도록 name() 사용
+     * - Timestamp 는 nano 단위가 유지되도록 Instant 문자열, 그 외 Date 는 epoch milli 사용
+     */
+    private static String toCursorText(Object value) {
+        if (value instanceof Enum<?> enumValue) return enumValue.name();
+        if (value instanceof Timestamp timestamp) return timestamp.toInstant().toString();
+        if (value instanceof Date date) return String.valueOf(date.getTime());
+        return value.toString();
+    }
+
+    /**
+     * 커서를 정렬 키 타입의 값으로 변환
+     */
+    private static Object[] decodeCursor(String cursor, List<? extends SeekKey<?, ?>> seekKeys) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            Object[] values = new Object[seekKeys.size()];
+            int position = 0;
+            for (int i = 0; i < values.length; i++) {
+                int separator = decoded.indexOf(CURSOR_SEPARATOR, position);
+                int length = Integer.parseInt(decoded, position, separator, 10);
+                int start = separator + 1;
+                values[i] = convert(decoded.substring(start, start + length), seekKeys.get(i).path().getType());
+                position = start + length;
+            }
+            if (position != decoded.length()) {
+                throw new IllegalArgumentException("cursor length mismatch");
+            }
+            return values;
+        } catch (RuntimeException e) {
+            throw new BusinessException(ApiReturnCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 정렬 키 값 이후 조건
+     * - (k1 > v1) or (k1 = v1 and k2 > v2) or ... (DESC 는 <)
+     */
+    private static Predicate seekPredicate(List<? extends SeekKey<?, ?>> seekKeys, Object[] values) {
+        Predicate predicate = null;
+        Predicate equalPrefix = null;
+        for (int i = 0; i < seekKeys.size(); i++) {
+            SeekKey<?, ?> seekKey = seekKeys.get(i);
+            Expression<?> value = ConstantImpl.create(values[i]);
+
+            Predicate after = ExpressionUtils.predicate(seekKey.order() == Order.ASC ? Ops.GT : Ops.LT, seekKey.path(), value);
+            predicate = ExpressionUtils.or(predicate, ExpressionUtils.and(equalPrefix, after));
+            equalPrefix = ExpressionUtils.and(equalPrefix, ExpressionUtils.predicate(Ops.EQ, seekKey.path(), value));
+        }
+        return predicate;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(String text, Class<?> type) {
+        if (type == String.class) return text;
+        if (type == Long.class) return Long.valueOf(text);
+        if (type == Integer.class) return Integer.valueOf(text);
+        if (type == Short.class) return Short.valueOf(text);
+        if (type == BigDecimal.class) return new BigDecimal(text);
+        if (type == BigInteger.class) return new BigInteger(text);
+        if (type == Double.class) return Double.valueOf(text);
+        if (type == UUID.class) return UUID.fromString(text);
+        if (type == LocalDateTime.class) return LocalDateTime.parse(text);
+        if (type == LocalDate.class) return LocalDate.parse(text);
+        if (type == LocalTime.class) return LocalTime.parse(text);
+        if (type == Instant.class) return Instant.parse(text);
+        if (type == OffsetDateTime.class) return OffsetDateTime.parse(text);
+        if (type == ZonedDateTime.class) return ZonedDateTime.parse(text);
+        if (Date.class.isAssignableFrom(type)) return toDate(text, type);
+        if (type.isEnum()) return Enum.valueOf((Class<? extends Enum>) type, text);
+        return DefaultConversionService.getSharedInstance().convert(text, type);
+    }
+
+    /**
+     * 커서 문자열을 정렬 키의 Date 타입(java.util.Date / java.sql.Timestamp / java.sql.Date / java.sql.Time)으로 변환
+     */
+    private static Date toDate(String text, Class<?> type) {
+        Date date = text.indexOf('T') >= 0 ? Timestamp.from(Instant.parse(text)) : new Date(Long.parseLong(text));
+        if (type.isInstance(date)) return date;
+        if (type == Timestamp.class) return new Timestamp(date.getTime());
+        if (type == java.sql.Date.class) return new java.sql.Date(date.getTime());
+        if (type == Time.class) return new Time(date.getTime());
+        throw new IllegalArgumentException("지원하지 않는 정렬 키 타입입니다: " + type.getName());
+    }
 }
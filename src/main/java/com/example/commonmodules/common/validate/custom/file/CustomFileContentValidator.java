@@ -0,0 +1,43 @@
+package com.example.commonmodules.common.validate.custom.file;
+
+import com.example.commonmodules.common.annotation.file.ValidFileContent;
+import com.example.commonmodules.common.enums.file.UploadFileType.FileExtType;
+import com.example.commonmodules.common.utils.FileSignatureMatcher;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+public class CustomFileContentValidator implements ConstraintValidator<ValidFileContent, MultipartFile> {
+
+    private Set<FileExtType> allowedTypes;
+
+    @Override
+    public void initialize(ValidFileContent constraintAnnotation) {
+        allowedTypes = constraintAnnotation.value().length == 0
+                ? EnumSet.allOf(FileExtType.class)
+                : EnumSet.copyOf(Arrays.asList(constraintAnnotation.value()));
+    }
+
+    @Override
+    public boolean isValid(MultipartFile file, ConstraintValidatorContext context) {
+        if (file == null || file.isEmpty() || file.getOriginalFilename() == null) {
+            return true;
+        }
+
+        FileExtType fileExtType = FileExtType.fromFileName(file.getOriginalFilename());
+        if (fileExtType == null || !allowedTypes.contains(fileExtType)) {
+            return false;
+        }
+
+        try {
+            return FileSignatureMatcher.matches(file, fileExtType);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}